@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "4.0.1"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.brajesh.catalog.domain"
@@ -26,8 +27,15 @@ repositories {
 
 dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-data-mongodb-reactive")
+	implementation("org.mongodb:mongodb-driver-sync")                  // virtual-threads runtime mode only
 	implementation ("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-webflux")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	implementation("tools.jackson.dataformat:jackson-dataformat-cbor")
+	implementation("tools.jackson.dataformat:jackson-dataformat-smile")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+	runtimeOnly("com.github.luben:zstd-jni:1.5.7-4")                 // zstd response compression
 	compileOnly("org.projectlombok:lombok")
 	annotationProcessor("org.projectlombok:lombok")
 	testImplementation("org.springframework.boot:spring-boot-starter-data-mongodb-reactive-test")
@@ -49,3 +57,35 @@ dependencies {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+tasks.named<Test>("test") {
+	useJUnitPlatform {
+		excludeTags("load")
+	}
+}
+
+// ./gradlew loadTest -Pload.products=10000 -Pload.concurrency=64 -- report in build/reports/load
+// -Pload.runtime-mode=virtual-threads runs the same load against the blocking-driver mode
+val loadRuntimeMode = (project.findProperty("load.runtime-mode") ?: "reactive").toString()
+val loadTest by tasks.registering(Test::class) {
+	description = "Runs the load-test harness against a Testcontainers MongoDB."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("load")
+	}
+	systemProperties(project.properties.filterKeys { it.startsWith("load.") })
+	systemProperty("product.runtime.mode", loadRuntimeMode)
+	systemProperty("load.report", layout.buildDirectory.file("reports/load/load-test-report-$loadRuntimeMode.json").get().asFile.path)
+	outputs.upToDateWhen { false }
+}
+
+// ./gradlew jmh -- results in build/results/jmh/results.json
+jmh {
+	warmupIterations = 3
+	iterations = 5
+	fork = 1
+	profilers = listOf("gc")
+	resultFormat = "JSON"
+}
@@ -0,0 +1,55 @@
+package com.brajesh.catalog.domain.product.benchmark;
+
+import com.brajesh.catalog.domain.product.model.api.requestDto.ProductRequestDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductResponseDto;
+import com.brajesh.catalog.domain.product.model.entity.Product;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static List<ProductRequestDto> requests(int size) {
+        List<ProductRequestDto> requests = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            requests.add(new ProductRequestDto(
+                    "B0C7XQ%05d".formatted(i),
+                    "Wireless Bluetooth Headphones " + i,
+                    "SoundMax",
+                    "SoundMax Electronics Pvt Ltd",
+                    BigDecimal.valueOf(12999 + i, 2)));
+        }
+        return requests;
+    }
+
+    static List<Product> products(int size) {
+        List<Product> products = new ArrayList<>(size);
+        for (ProductRequestDto request : requests(size)) {
+            products.add(Product.builder()
+                    .productId(request.getProductId())
+                    .title(request.getTitle())
+                    .brand(request.getBrand())
+                    .manufacturer(request.getManufacturer())
+                    .price(request.getPrice())
+                    .build());
+        }
+        return products;
+    }
+
+    static List<ProductResponseDto> responses(int size) {
+        List<ProductResponseDto> responses = new ArrayList<>(size);
+        for (Product product : products(size)) {
+            responses.add(new ProductResponseDto(
+                    product.getProductId(),
+                    product.getTitle(),
+                    product.getBrand(),
+                    product.getManufacturer(),
+                    product.getPrice()));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,52 @@
+package com.brajesh.catalog.domain.product.benchmark;
+
+import com.brajesh.catalog.domain.product.mapper.ProductMapper;
+import com.brajesh.catalog.domain.product.model.api.requestDto.ProductRequestDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductResponseDto;
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductMapper list conversions (parallelStream) against a sequential stream over the
+ * single-item mappers, so the crossover size where parallelism starts to pay off is visible.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductMapperBenchmark {
+
+    @Param({"1", "100", "10000", "1000000"})
+    private int size;
+
+    private List<ProductRequestDto> requests;
+    private List<Product> products;
+
+    @Setup
+    public void setup() {
+        requests = BenchmarkData.requests(size);
+        products = BenchmarkData.products(size);
+    }
+
+    @Benchmark
+    public List<Product> toBulkEntityParallel() {
+        return ProductMapper.toBulkEntity(requests);
+    }
+
+    @Benchmark
+    public List<Product> toBulkEntitySequential() {
+        return requests.stream().map(ProductMapper::toEntity).toList();
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> toApiBulkDtoParallel() {
+        return ProductMapper.toApiBulkDto(products);
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> toApiBulkDtoSequential() {
+        return products.stream().map(ProductMapper::toApiDto).toList();
+    }
+}
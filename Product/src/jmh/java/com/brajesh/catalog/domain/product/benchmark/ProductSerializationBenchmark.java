@@ -0,0 +1,42 @@
+package com.brajesh.catalog.domain.product.benchmark;
+
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductResponseDto;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson encoding of ProductResponseDto as done by the JSON encoder for list responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSerializationBenchmark {
+
+    @Param({"1", "100", "10000", "1000000"})
+    private int size;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private List<ProductResponseDto> responses;
+
+    @Setup
+    public void setup() {
+        responses = BenchmarkData.responses(size);
+    }
+
+    @Benchmark
+    public byte[] serializeList() {
+        return jsonMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public long serializeEach() {
+        long bytes = 0;
+        for (ProductResponseDto response : responses) {
+            bytes += jsonMapper.writeValueAsBytes(response).length;
+        }
+        return bytes;
+    }
+}
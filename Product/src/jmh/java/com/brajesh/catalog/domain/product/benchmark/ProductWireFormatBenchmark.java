@@ -0,0 +1,67 @@
+package com.brajesh.catalog.domain.product.benchmark;
+
+import com.brajesh.catalog.domain.product.model.api.requestDto.ProductRequestDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductResponseDto;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON against the binary formats offered by content negotiation: encoding a list response and
+ * decoding a bulk request. Bytes per product of the encoded list are reported as the
+ * {@code bytesPerProduct} secondary result of {@code encodeList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductWireFormatBenchmark {
+
+    private static final TypeReference<List<ProductRequestDto>> REQUESTS = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private ObjectMapper mapper;
+    private List<ProductResponseDto> responses;
+    private byte[] encodedRequests;
+
+    @Setup
+    public void setup() {
+        mapper = switch (format) {
+            case "cbor" -> CBORMapper.builder().build();
+            case "smile" -> SmileMapper.builder().build();
+            default -> JsonMapper.builder().build();
+        };
+        responses = BenchmarkData.responses(size);
+        encodedRequests = mapper.writeValueAsBytes(BenchmarkData.requests(size));
+    }
+
+    @Benchmark
+    public byte[] encodeList(EncodedSize encodedSize) {
+        byte[] encoded = mapper.writeValueAsBytes(responses);
+        encodedSize.bytesPerProduct = (double) encoded.length / size;
+        return encoded;
+    }
+
+    @Benchmark
+    public List<ProductRequestDto> decodeList() {
+        return mapper.readValue(encodedRequests, REQUESTS);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        public double bytesPerProduct;
+    }
+}
@@ -0,0 +1,42 @@
+package com.brajesh.catalog.domain.product.benchmark;
+
+import com.brajesh.catalog.domain.product.model.api.requestDto.ProductRequestDto;
+import com.brajesh.catalog.domain.product.utils.ValidationUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * validateAndReturnList builds a Flux to scan a List; the plain loop is the lower bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationUtilsBenchmark {
+
+    @Param({"1", "100", "10000", "1000000"})
+    private int size;
+
+    private List<ProductRequestDto> requests;
+
+    @Setup
+    public void setup() {
+        requests = BenchmarkData.requests(size);
+    }
+
+    @Benchmark
+    public List<ProductRequestDto> validateAndReturnList() {
+        return ValidationUtils.validateAndReturnList(requests).block();
+    }
+
+    @Benchmark
+    public boolean loopBaseline() {
+        for (ProductRequestDto request : requests) {
+            if (!ValidationUtils.isValidProductRequest(request)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+package com.brajesh.catalog.domain.product.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.JacksonCborDecoder;
+import org.springframework.http.codec.cbor.JacksonCborEncoder;
+import org.springframework.http.codec.smile.JacksonSmileDecoder;
+import org.springframework.http.codec.smile.JacksonSmileEncoder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Binary alternatives to JSON for product payloads, chosen by {@code Accept} and
+ * {@code Content-Type}: CBOR ({@code application/cbor}) and Smile
+ * ({@code application/x-jackson-smile}). Both carry the same DTOs as JSON, with field names
+ * written once per value (Smile back-references repeated names) and prices as binary
+ * decimals instead of text. JSON stays the default for clients that do not ask.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "product.codecs.binary.enabled", havingValue = "true", matchIfMissing = true)
+public class BinaryCodecsConfig implements WebFluxConfigurer {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
+    private final CBORMapper cborMapper = CBORMapper.builder().build();
+    private final SmileMapper smileMapper = SmileMapper.builder().build();
+
+    /**
+     * Shared with {@code PooledArrayWriter}, which encodes large arrays in the same formats.
+     */
+    @Bean
+    public CBORMapper productCborMapper() {
+        return cborMapper;
+    }
+
+    @Bean
+    public SmileMapper productSmileMapper() {
+        return smileMapper;
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+
+        configurer.customCodecs().register(new JacksonCborEncoder(cborMapper));
+        configurer.customCodecs().register(new JacksonCborDecoder(cborMapper));
+        configurer.customCodecs().register(new JacksonSmileEncoder(smileMapper));
+        configurer.customCodecs().register(new JacksonSmileDecoder(smileMapper));
+    }
+}
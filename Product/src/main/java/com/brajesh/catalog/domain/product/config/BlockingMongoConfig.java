@@ -0,0 +1,37 @@
+package com.brajesh.catalog.domain.product.config;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+/**
+ * Synchronous driver for {@code product.runtime.mode=virtual-threads}. Spring Boot's blocking
+ * Mongo auto-configuration is excluded in application.properties, so the reactive mode runs
+ * with a single connection pool and this second client only exists when the mode asks for it.
+ * The template shares the reactive side's converter, so documents map identically.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "product.runtime.mode", havingValue = "virtual-threads")
+public class BlockingMongoConfig {
+
+    @Value("${spring.mongodb.uri}")
+    private String mongoUri;
+
+    @Bean(destroyMethod = "close")
+    public MongoClient blockingMongoClient() {
+        return MongoClients.create(mongoUri);
+    }
+
+    @Bean
+    public MongoTemplate blockingMongoTemplate(MongoClient blockingMongoClient, MappingMongoConverter converter) {
+        String database = new ConnectionString(mongoUri).getDatabase();
+        return new MongoTemplate(new SimpleMongoClientDatabaseFactory(blockingMongoClient, database), converter);
+    }
+}
@@ -0,0 +1,190 @@
+package com.brajesh.catalog.domain.product.config;
+
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.brajesh.catalog.domain.product.utils.SearchTokenUtils;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Creates the indexes declared on {@link Product} once the application is ready.
+ * Auto index creation is off in Spring Data, so this is the single place indexes get built.
+ * While a build runs, progress is read from {@code $currentOp} and logged periodically.
+ * <p>
+ * Before that, documents written by older versions are migrated in place
+ * ({@code product.migration.enabled}); both steps only touch documents still in the old shape,
+ * so running them on every start is a no-op once done:
+ * <ul>
+ *     <li>string or binary floating point prices become Decimal128, so price ranges, facets
+ *     and reports see them</li>
+ *     <li>missing {@code searchTokens} are backfilled for prefix search</li>
+ *     <li>products without {@code lastModified} get their insertion time and version 1, so the
+ *     changes feed returns them to a consumer starting without a token</li>
+ * </ul>
+ */
+@Component
+public class ProductIndexInitializer {
+
+    private static final Logger logger = getLogger(ProductIndexInitializer.class);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final MongoClient mongoClient;
+
+    @Value("${product.index.progress-interval:10s}")
+    private Duration progressInterval;
+
+    @Value("${product.migration.enabled:true}")
+    private boolean migrationEnabled;
+
+    @Value("${product.migration.batch-size:1000}")
+    private int migrationBatchSize;
+
+    public ProductIndexInitializer(@Autowired ReactiveMongoTemplate mongoTemplate,
+                                   @Autowired MongoClient mongoClient) {
+        this.mongoTemplate = mongoTemplate;
+        this.mongoClient = mongoClient;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        IndexResolver resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        ReactiveIndexOperations indexOps = mongoTemplate.indexOps(Product.class);
+        String collection = mongoTemplate.getCollectionName(Product.class);
+
+        Mono<Void> migration = migrationEnabled
+                ? migrate(collection).onErrorResume(e -> {
+                    logger.error("Migration of {} failed, creating indexes anyway", collection, e);
+                    return Mono.empty();
+                })
+                : Mono.empty();
+
+        migration.thenMany(Flux.fromIterable(resolver.resolveIndexFor(Product.class)))
+                .concatMap(index -> createIndex(indexOps, collection, index))
+                .subscribe(
+                        name -> { },
+                        e -> logger.error("Index creation on {} failed", collection, e)
+                );
+    }
+
+    private Mono<Void> migrate(String collection) {
+        return mongoTemplate.getCollection(collection)
+                .flatMap(products -> convertPrices(collection, products)
+                        .then(backfillSearchTokens(collection, products))
+                        .then(backfillVersions(collection, products)));
+    }
+
+    /**
+     * Values that do not parse as a number are left as they are instead of failing the update.
+     */
+    private Mono<Void> convertPrices(String collection, MongoCollection<Document> products) {
+        Document legacyPrice = new Document("price", new Document("$type", List.of("string", "double", "int", "long")));
+        Document toDecimal = new Document("$set", new Document("price", new Document("$convert", new Document()
+                .append("input", "$price")
+                .append("to", "decimal")
+                .append("onError", "$price"))));
+
+        return Mono.from(products.updateMany(legacyPrice, List.of(toDecimal)))
+                .doOnNext(result -> {
+                    if (result.getModifiedCount() > 0) {
+                        logger.info("Converted {} prices on {} to Decimal128", result.getModifiedCount(), collection);
+                    }
+                })
+                .then();
+    }
+
+    /**
+     * Tokens are computed by {@link SearchTokenUtils}, exactly as on write, and set in batches
+     * of {@code product.migration.batch-size} updates.
+     */
+    private Mono<Void> backfillSearchTokens(String collection, MongoCollection<Document> products) {
+        return Flux.from(products.find(Filters.exists("searchTokens", false))
+                        .projection(Projections.include("title", "brand", "manufacturer"))
+                        .batchSize(migrationBatchSize))
+                .map(product -> new UpdateOneModel<Document>(
+                        Filters.eq("_id", product.get("_id")),
+                        Updates.set("searchTokens", SearchTokenUtils.tokens(
+                                product.getString("title"), product.getString("brand"), product.getString("manufacturer")))))
+                .buffer(migrationBatchSize)
+                .concatMap(updates -> Mono.from(products.bulkWrite(updates, new BulkWriteOptions().ordered(false))))
+                .reduce(0L, (count, result) -> count + result.getModifiedCount())
+                .doOnNext(count -> {
+                    if (count > 0) {
+                        logger.info("Backfilled searchTokens on {} products in {}", count, collection);
+                    }
+                })
+                .then();
+    }
+
+    /**
+     * The insertion time is read from the ObjectId; ids of any other type fall back to the epoch,
+     * which still places the product at the start of the feed.
+     */
+    private Mono<Void> backfillVersions(String collection, MongoCollection<Document> products) {
+        Document insertedAt = new Document("$convert", new Document()
+                .append("input", "$_id")
+                .append("to", "date")
+                .append("onError", new Date(0)));
+        Document stamp = new Document("$set", new Document("lastModified", insertedAt)
+                .append("version", new Document("$ifNull", List.of("$version", 1L))));
+
+        return Mono.from(products.updateMany(Filters.exists("lastModified", false), List.of(stamp)))
+                .doOnNext(result -> {
+                    if (result.getModifiedCount() > 0) {
+                        logger.info("Backfilled lastModified on {} products in {}", result.getModifiedCount(), collection);
+                    }
+                })
+                .then();
+    }
+
+    private Mono<String> createIndex(ReactiveIndexOperations indexOps, String collection, IndexDefinition index) {
+        long start = System.nanoTime();
+        Disposable progress = Flux.interval(progressInterval)
+                .concatMap(tick -> logBuildProgress(collection))
+                .subscribe();
+
+        return indexOps.createIndex(index)
+                .doOnNext(name -> logger.info("Index {} on {} ready in {} ms",
+                        name, collection, Duration.ofNanos(System.nanoTime() - start).toMillis()))
+                .doFinally(signal -> progress.dispose());
+    }
+
+    private Mono<Void> logBuildProgress(String collection) {
+        Document currentOp = new Document("currentOp", true)
+                .append("command.createIndexes", collection);
+
+        return Mono.from(mongoClient.getDatabase("admin").runCommand(currentOp))
+                .flatMapIterable(result -> result.getList("inprog", Document.class))
+                .mapNotNull(op -> op.get("progress", Document.class))
+                .doOnNext(progress -> logger.info("Index build on {}: {}/{} documents",
+                        collection, progress.get("done"), progress.get("total")))
+                .onErrorResume(e -> {
+                    logger.debug("Index build progress unavailable for {}", collection, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
@@ -0,0 +1,46 @@
+package com.brajesh.catalog.domain.product.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.Scannable;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Binds every executor backing a Reactor scheduler to {@link ExecutorServiceMetrics}
+ * (queued, active, completed tasks and execution time), tagged with the scheduler name.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ReactorMetricsConfig {
+
+    private static final String DECORATOR_KEY = "product-executor-metrics";
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger executorIds = new AtomicInteger();
+
+    public ReactorMetricsConfig(@Autowired MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void bindSchedulerMetrics() {
+        Schedulers.addExecutorServiceDecorator(DECORATOR_KEY, (scheduler, executor) -> {
+            String schedulerName = Scannable.from(scheduler).name();
+            String executorId = schedulerName + "-" + executorIds.incrementAndGet();
+            return ExecutorServiceMetrics.monitor(meterRegistry, executor, executorId, "reactor",
+                    Tags.of(Tag.of("scheduler", schedulerName)));
+        });
+    }
+
+    @PreDestroy
+    void unbindSchedulerMetrics() {
+        Schedulers.removeExecutorServiceDecorator(DECORATOR_KEY);
+    }
+}
@@ -0,0 +1,35 @@
+package com.brajesh.catalog.domain.product.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code GET/POST /actuator/requestlogging} - reads or changes the item-level sample rate
+ * without a restart, e.g. {@code {"itemSampleRate": 0.01}}.
+ */
+@Component
+@Endpoint(id = "requestlogging")
+public class RequestLoggingEndpoint {
+
+    private final RequestLoggingSettings settings;
+
+    public RequestLoggingEndpoint(@Autowired RequestLoggingSettings settings) {
+        this.settings = settings;
+    }
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        return Map.of("itemSampleRate", settings.getItemSampleRate());
+    }
+
+    @WriteOperation
+    public Map<String, Object> updateSettings(double itemSampleRate) {
+        settings.setItemSampleRate(itemSampleRate);
+        return settings();
+    }
+}
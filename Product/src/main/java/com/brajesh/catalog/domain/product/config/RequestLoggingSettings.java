@@ -0,0 +1,27 @@
+package com.brajesh.catalog.domain.product.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runtime-switchable request logging verbosity, changed through the {@code requestlogging}
+ * actuator endpoint. The per-request summary itself is switched with the standard
+ * {@code loggers} endpoint on {@code RequestLoggingFilter}.
+ */
+@Component
+public class RequestLoggingSettings {
+
+    private volatile double itemSampleRate;
+
+    public RequestLoggingSettings(@Value("${product.logging.item-sample-rate:0.001}") double itemSampleRate) {
+        setItemSampleRate(itemSampleRate);
+    }
+
+    public double getItemSampleRate() {
+        return itemSampleRate;
+    }
+
+    public void setItemSampleRate(double itemSampleRate) {
+        this.itemSampleRate = Math.clamp(itemSampleRate, 0.0, 1.0);
+    }
+}
@@ -0,0 +1,29 @@
+package com.brajesh.catalog.domain.product.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.reactor.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.server.compression.GzipOption;
+import reactor.netty.http.server.compression.ZstdOption;
+
+/**
+ * Codec levels for response compression. Whether and what to compress is the standard
+ * {@code server.compression.*} (enabled, mime types, min-response-size); this adds zstd,
+ * offered when the client sends {@code Accept-Encoding: zstd} and zstd-jni is on the
+ * classpath, and sets both levels. Level 1-3 keeps the CPU cost per byte well below the
+ * time it saves on the wire for listing-sized responses.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+public class ResponseCompressionConfig {
+
+    @Bean
+    public NettyServerCustomizer compressionOptionsCustomizer(@Value("${product.compression.gzip-level:4}") int gzipLevel,
+                                                              @Value("${product.compression.zstd-level:3}") int zstdLevel) {
+        return server -> server.compressOptions(
+                GzipOption.builder().compressionLevel(gzipLevel).build(),
+                ZstdOption.builder().compressionLevel(zstdLevel).build());
+    }
+}
@@ -8,6 +8,16 @@ public class UriConstants {
     public static final String PRODUCTS = "/products";
     public static final String API_CREATE_PRODUCT = PRODUCTS;
     public static final String API_CREATE_BULK_PRODUCT = PRODUCTS+"/bulk";
+    public static final String API_INGEST_BULK_PRODUCT = API_CREATE_BULK_PRODUCT + "/ingest";
     public static final String PRODUCTS_BY_ID = "/products/productId";
+    public static final String API_IMPORT_PRODUCT = PRODUCTS + "/import";
+    public static final String API_EXPORT_PRODUCT = PRODUCTS + "/export";
+    public static final String PRODUCTS_PAGE = PRODUCTS + "/page";
+    public static final String PRODUCTS_CHANGES = PRODUCTS + "/changes";
+    public static final String PRODUCTS_BATCH_GET = PRODUCTS + "/batch-get";
+    public static final String PRODUCTS_SEARCH = PRODUCTS + "/search";
+    public static final String PRODUCTS_SUGGEST = PRODUCTS + "/suggest";
+    public static final String PRODUCTS_STATS = PRODUCTS + "/stats";
+    public static final String PRODUCTS_PRICE_HISTOGRAM = PRODUCTS + "/price-histogram";
 
 }
@@ -0,0 +1,95 @@
+package com.brajesh.catalog.domain.product.exception;
+
+import com.brajesh.catalog.domain.product.model.enumeration.FeedbackType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * {@link ApiErrorResponse} bodies serialized once per code at startup. Only the timestamp
+ * differs between two responses for the same code, so a response is the cached prefix, the
+ * current timestamp and the cached suffix copied into one buffer, with no Jackson call.
+ */
+@Component
+public class ErrorResponseBodies {
+
+    static final String INTERNAL_ERROR = "INTERNAL_ERROR";
+    static final String INTERNAL_ERROR_MESSAGE = "Something went wrong. Please try again later.";
+
+    private static final String TIMESTAMP_PLACEHOLDER = Instant.EPOCH.toString();
+
+    private final Map<ProductDetailsException, Template> templates = new EnumMap<>(ProductDetailsException.class);
+    private final Template internalError;
+    private volatile RenderedTimestamp timestamp = new RenderedTimestamp(Long.MIN_VALUE, new byte[0]);
+
+    public ErrorResponseBodies(@Autowired JsonMapper jsonMapper) {
+        for (ProductDetailsException code : ProductDetailsException.values()) {
+            templates.put(code, template(jsonMapper, new ApiErrorResponse(
+                    code.getKey(), code.getLabel(), code.getType().name(), code.getStatus(), Instant.EPOCH)));
+        }
+        this.internalError = template(jsonMapper, new ApiErrorResponse(
+                INTERNAL_ERROR, INTERNAL_ERROR_MESSAGE, FeedbackType.TEC.name(), 500, Instant.EPOCH));
+    }
+
+    public DataBuffer render(ProductDetailsException code, DataBufferFactory bufferFactory) {
+        return templates.get(code).render(currentTimestamp(), bufferFactory);
+    }
+
+    public DataBuffer renderInternalError(DataBufferFactory bufferFactory) {
+        return internalError.render(currentTimestamp(), bufferFactory);
+    }
+
+    /**
+     * Millisecond precision; the rendered bytes are reused for every error in the same millisecond.
+     */
+    private byte[] currentTimestamp() {
+        long now = System.currentTimeMillis();
+        RenderedTimestamp current = timestamp;
+        if (current.epochMilli() != now) {
+            current = new RenderedTimestamp(now, Instant.ofEpochMilli(now).toString().getBytes(StandardCharsets.US_ASCII));
+            timestamp = current;
+        }
+        return current.utf8();
+    }
+
+    private static Template template(JsonMapper jsonMapper, ApiErrorResponse response) {
+        byte[] json = jsonMapper.writeValueAsBytes(response);
+        byte[] placeholder = TIMESTAMP_PLACEHOLDER.getBytes(StandardCharsets.US_ASCII);
+        int at = indexOf(json, placeholder);
+        if (at < 0) {
+            throw new IllegalStateException("Error response timestamp is not serialized as an ISO-8601 string: "
+                    + new String(json, StandardCharsets.UTF_8));
+        }
+        return new Template(Arrays.copyOfRange(json, 0, at), Arrays.copyOfRange(json, at + placeholder.length, json.length));
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        for (int i = 0; i <= source.length - target.length; i++) {
+            if (Arrays.equals(source, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private record RenderedTimestamp(long epochMilli, byte[] utf8) {
+    }
+
+    private record Template(byte[] prefix, byte[] suffix) {
+
+        DataBuffer render(byte[] timestamp, DataBufferFactory bufferFactory) {
+            return bufferFactory.allocateBuffer(prefix.length + timestamp.length + suffix.length)
+                    .write(prefix)
+                    .write(timestamp)
+                    .write(suffix);
+        }
+    }
+}
@@ -1,64 +1,117 @@
 package com.brajesh.catalog.domain.product.exception;
 
 import com.brajesh.catalog.domain.product.model.enumeration.FeedbackType;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.time.Instant;
-
+import static com.brajesh.catalog.domain.product.exception.ErrorResponseBodies.INTERNAL_ERROR;
 import static org.slf4j.LoggerFactory.getLogger;
 
+/**
+ * Error bodies come pre-serialized from {@link ErrorResponseBodies} and log lines are
+ * rate-limited per code by {@link RateLimitedLogger}, so a flood of client errors costs
+ * about as much as successful responses. Every error is still counted in {@code product.errors}.
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     private static final Logger log = getLogger(GlobalExceptionHandler.class);
+    private static final String ERROR_COUNTER = "product.errors";
+
+    private final MeterRegistry meterRegistry;
+    private final ErrorResponseBodies errorBodies;
+    private final RateLimitedLogger rateLimitedLogger;
+
+    public GlobalExceptionHandler(@Autowired MeterRegistry meterRegistry,
+                                  @Autowired ErrorResponseBodies errorBodies,
+                                  @Autowired RateLimitedLogger rateLimitedLogger) {
+        this.meterRegistry = meterRegistry;
+        this.errorBodies = errorBodies;
+        this.rateLimitedLogger = rateLimitedLogger;
+    }
 
     @ExceptionHandler(ProductException.class)
-    public Mono<ResponseEntity<ApiErrorResponse>> handleProductException(
-            ProductException ex
+    public Mono<ResponseEntity<DataBuffer>> handleProductException(
+            ProductException ex,
+            ServerWebExchange exchange
     ) {
         ProductDetailsException code = ex.getCode();
-        ApiErrorResponse response = ApiErrorResponse.from(code);
 
-        logBasedOnSeverity(code, ex, response);
+        countError(code);
+        logBasedOnSeverity(code, ex);
 
         return Mono.just(
                 ResponseEntity
                         .status(code.getStatus())
-                        .body(response)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(errorBodies.render(code, exchange.getResponse().bufferFactory()))
         );
     }
 
     @ExceptionHandler(Throwable.class)
-    public Mono<ResponseEntity<ApiErrorResponse>> handleUnexpectedException(
-            Throwable ex
+    public Mono<ResponseEntity<DataBuffer>> handleUnexpectedException(
+            Throwable ex,
+            ServerWebExchange exchange
     ) {
-        log.error("UNEXPECTED ERROR", ex);
+        long suppressed = rateLimitedLogger.acquire(INTERNAL_ERROR);
+        if (suppressed != RateLimitedLogger.SUPPRESSED) {
+            log.error("UNEXPECTED ERROR (suppressed since last: {})", suppressed, ex);
+        }
+        meterRegistry.counter(ERROR_COUNTER,
+                "code", INTERNAL_ERROR, "type", FeedbackType.TEC.name(), "status", "500").increment();
 
-        ApiErrorResponse response = new ApiErrorResponse(
-                "INTERNAL_ERROR",
-                "Something went wrong. Please try again later.",
-                FeedbackType.TEC.name(),
-                500,
-                Instant.now()
+        return Mono.just(
+                ResponseEntity
+                        .status(500)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(errorBodies.renderInternalError(exchange.getResponse().bufferFactory()))
         );
+    }
+
+    /**
+     * Same response as a thrown {@link ProductException}, for web filters that reject a request
+     * before it reaches a controller and should not pay for an exception.
+     */
+    public Mono<Void> writeError(ServerWebExchange exchange, ProductDetailsException code) {
+        countError(code);
+        logBasedOnSeverity(code, null);
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(code.getStatus()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(errorBodies.render(code, response.bufferFactory())));
+    }
 
-        return Mono.just(ResponseEntity.status(500).body(response));
+    private void countError(ExceptionCode code) {
+        meterRegistry.counter(ERROR_COUNTER,
+                "code", code.getKey(),
+                "type", code.getType().name(),
+                "status", String.valueOf(code.getStatus())
+        ).increment();
     }
 
     private void logBasedOnSeverity(
             ExceptionCode code,
-            Throwable ex,
-            ApiErrorResponse response
+            Throwable ex
     ) {
+        long suppressed = rateLimitedLogger.acquire(code.getKey());
+        if (suppressed == RateLimitedLogger.SUPPRESSED) {
+            return;
+        }
         switch (code.getSeverity()) {
-            case INFO -> log.info("INFO: {}", response);
-            case WARN -> log.warn("WARN: {}", response);
-            case ERROR -> log.error("ERROR: {}", response, ex);
+            case INFO -> log.info("INFO: {} {} (suppressed since last: {})", code.getKey(), code.getStatus(), suppressed);
+            case WARN -> log.warn("WARN: {} {} (suppressed since last: {})", code.getKey(), code.getStatus(), suppressed);
+            case ERROR -> log.error("ERROR: {} {} (suppressed since last: {})", code.getKey(), code.getStatus(), suppressed, ex);
         }
     }
 }
-
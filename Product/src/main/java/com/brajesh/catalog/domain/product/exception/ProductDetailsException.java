@@ -29,6 +29,20 @@ public enum ProductDetailsException implements ExceptionCode {
             WARN
     ),
 
+    SB_PL_PAYLOAD_TOO_LARGE(
+            413,
+            "Request body too large.",
+            BUS,
+            WARN
+    ),
+
+    SB_PL_REQUEST_REJECTED(
+            429,
+            "Too many requests, please retry later.",
+            BUS,
+            WARN
+    ),
+
     /* =======================
        SECURITY
        ======================= */
@@ -2,13 +2,19 @@ package com.brajesh.catalog.domain.product.exception;
 
 import lombok.Getter;
 
+import static com.brajesh.catalog.domain.product.model.enumeration.FeedbackType.TEC;
+
+/**
+ * BUS and SEC failures are expected outcomes of bad or hostile input and carry no stack trace,
+ * so a flood of them costs no stack walk; only TEC failures keep one for diagnosis.
+ */
 @Getter
 public class ProductException extends RuntimeException {
 
     private final ProductDetailsException code;
 
     public ProductException(ProductDetailsException code) {
-        super(code.getLabel());
+        super(code.getLabel(), null, false, code.getType() == TEC);
         this.code = code;
     }
 
@@ -0,0 +1,54 @@
+package com.brajesh.catalog.domain.product.exception;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Allows at most {@code product.errors.log-limit-per-second} log lines per error code and
+ * second. Lines over the limit are only counted; the count is handed to the next line that
+ * gets through so the log still shows how much was dropped.
+ */
+@Component
+public class RateLimitedLogger {
+
+    static final long SUPPRESSED = -1;
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Value("${product.errors.log-limit-per-second:10}")
+    private int limitPerSecond;
+
+    /**
+     * @return {@link #SUPPRESSED} when the line must be dropped, otherwise the number of
+     * lines dropped for {@code key} since the last one logged
+     */
+    public long acquire(String key) {
+        return windows.computeIfAbsent(key, k -> new Window()).acquire(System.nanoTime(), limitPerSecond);
+    }
+
+    private static final class Window {
+
+        private final AtomicLong start = new AtomicLong(System.nanoTime());
+        private final AtomicInteger logged = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        long acquire(long now, int limit) {
+            long windowStart = start.get();
+            if (now - windowStart >= WINDOW_NANOS && start.compareAndSet(windowStart, now)) {
+                logged.set(0);
+            }
+            if (logged.incrementAndGet() <= limit) {
+                return suppressed.getAndSet(0);
+            }
+            suppressed.incrementAndGet();
+            return SUPPRESSED;
+        }
+    }
+}
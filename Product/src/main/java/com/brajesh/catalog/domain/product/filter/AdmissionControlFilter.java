@@ -0,0 +1,162 @@
+package com.brajesh.catalog.domain.product.filter;
+
+import com.brajesh.catalog.domain.product.exception.GlobalExceptionHandler;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static com.brajesh.catalog.domain.product.constant.UriConstants.*;
+import static com.brajesh.catalog.domain.product.exception.ProductDetailsException.SB_PL_REQUEST_REJECTED;
+
+/**
+ * Admission layer in front of every {@code /api/v1} request, rejecting early with
+ * {@code SB_PL_REQUEST_REJECTED} (429 + Retry-After) rather than letting work queue on the Mongo pool.
+ * <ol>
+ *     <li>per-client token bucket keyed on the remote address; {@code X-Client-Id} is only
+ *     honored on requests arriving from a {@code trusted-proxies} address, since any caller
+ *     could otherwise rotate it to get a fresh bucket per request. Catalog-wide
+ *     operations (bulk writes, full listings, reports) cost {@code heavy-cost} tokens</li>
+ *     <li>{@link AdaptiveConcurrencyLimiter} on in-flight requests; import, export and any request
+ *     for an NDJSON or event-stream response are exempt, because they hold a slot for minutes,
+ *     pace themselves through backpressure and their duration says nothing about Mongo latency</li>
+ * </ol>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AdmissionControlFilter implements WebFilter {
+
+    private static final Set<String> HEAVY_PATHS = Set.of(
+            API_PRODUCT + API_CREATE_BULK_PRODUCT, API_PRODUCT + API_INGEST_BULK_PRODUCT,
+            API_PRODUCT + API_IMPORT_PRODUCT, API_PRODUCT + API_EXPORT_PRODUCT,
+            API_PRODUCT + PRODUCTS_STATS, API_PRODUCT + PRODUCTS_PRICE_HISTOGRAM);
+    private static final Set<String> STREAMING_PATHS = Set.of(
+            API_PRODUCT + API_IMPORT_PRODUCT, API_PRODUCT + API_EXPORT_PRODUCT);
+    private static final List<MediaType> STREAMING_TYPES = List.of(
+            MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+
+    private final GlobalExceptionHandler exceptionHandler;
+    private final MeterRegistry meterRegistry;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Cache<String, TokenBucket> buckets;
+
+    @Value("${product.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${product.admission.client-header:X-Client-Id}")
+    private String clientHeader;
+
+    @Value("${product.admission.trusted-proxies:}")
+    private Set<String> trustedProxies;
+
+    @Value("${product.admission.rate-per-second:200}")
+    private double ratePerSecond;
+
+    @Value("${product.admission.burst:400}")
+    private double burst;
+
+    @Value("${product.admission.heavy-cost:20}")
+    private double heavyCost;
+
+    public AdmissionControlFilter(@Autowired GlobalExceptionHandler exceptionHandler,
+                                  @Autowired MeterRegistry meterRegistry,
+                                  @Value("${product.admission.concurrency.initial:64}") int initialLimit,
+                                  @Value("${product.admission.concurrency.min:8}") int minLimit,
+                                  @Value("${product.admission.concurrency.max:512}") int maxLimit) {
+        this.exceptionHandler = exceptionHandler;
+        this.meterRegistry = meterRegistry;
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+
+        Gauge.builder("product.admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("product.admission.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = normalize(request.getPath().pathWithinApplication().value());
+        if (!enabled || !path.startsWith(API_PRODUCT)) {
+            return chain.filter(exchange);
+        }
+
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(clientOf(request), client -> new TokenBucket(burst, ratePerSecond, now));
+        if (!bucket.tryConsume(isHeavy(request, path) ? heavyCost : 1, now)) {
+            return reject(exchange, "rate-limit");
+        }
+        if (isStreaming(request, path)) {
+            return chain.filter(exchange);
+        }
+        if (!limiter.tryAcquire()) {
+            return reject(exchange, "concurrency");
+        }
+        return chain.filter(exchange)
+                .doFinally(signal -> limiter.release(signal == SignalType.ON_COMPLETE ? System.nanoTime() - now : -1));
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, String reason) {
+        meterRegistry.counter("product.admission.rejected", "reason", reason).increment();
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+        return exceptionHandler.writeError(exchange, SB_PL_REQUEST_REJECTED);
+    }
+
+    private boolean isHeavy(ServerHttpRequest request, String path) {
+        return HEAVY_PATHS.contains(path)
+                || (request.getMethod() == HttpMethod.GET && path.equals(API_PRODUCT + PRODUCTS));   // full listing
+    }
+
+    private static boolean isStreaming(ServerHttpRequest request, String path) {
+        return STREAMING_PATHS.contains(path)
+                || request.getHeaders().getAccept().stream()
+                        .filter(mediaType -> !mediaType.isWildcardType() && !mediaType.isWildcardSubtype())
+                        .anyMatch(mediaType -> STREAMING_TYPES.stream().anyMatch(mediaType::isCompatibleWith));
+    }
+
+    private static String normalize(String path) {
+        int end = path.length();
+        while (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return end == path.length() ? path : path.substring(0, end);
+    }
+
+    private String clientOf(ServerHttpRequest request) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        if (remote == null) {
+            return "unknown";
+        }
+        String address = remote.getAddress() != null ? remote.getAddress().getHostAddress() : remote.getHostString();
+        if (trustedProxies.contains(address)) {
+            String client = request.getHeaders().getFirst(clientHeader);
+            if (client != null && !client.isBlank()) {
+                return client;
+            }
+        }
+        return address;
+    }
+}
@@ -0,0 +1,124 @@
+package com.brajesh.catalog.domain.product.filter;
+
+import com.brajesh.catalog.domain.product.exception.ProductException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.DecompressionException;
+import io.netty.handler.codec.compression.JdkZlibDecoder;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.brajesh.catalog.domain.product.exception.ProductDetailsException.SB_PL_INVALID_INPUT_DATA;
+import static com.brajesh.catalog.domain.product.exception.ProductDetailsException.SB_PL_PAYLOAD_TOO_LARGE;
+
+/**
+ * Inflates request bodies sent with {@code Content-Encoding: gzip}. Buffers are decoded one
+ * at a time as they arrive, so a compressed feed is never materialized in memory. Memory stays
+ * bounded against gzip bombs: input is fed to the decoder in small slices only as downstream
+ * asks for more, each output buffer is capped at {@code max-allocation}, and a body inflating
+ * past {@code max-inflated-size} is rejected with 413 ({@code SB_PL_PAYLOAD_TOO_LARGE}).
+ */
+@Component
+public class GzipRequestBodyFilter implements WebFilter {
+
+    private static final NettyDataBufferFactory BUFFER_FACTORY = new NettyDataBufferFactory(ByteBufAllocator.DEFAULT);
+    private static final int INPUT_SLICE_BYTES = 1024;                  // at most ~1MB inflated per slice
+
+    @Value("${product.gzip.max-inflated-size:512MB}")
+    private DataSize maxInflatedSize;
+
+    @Value("${product.gzip.max-allocation:64KB}")
+    private DataSize maxAllocation;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String encoding = exchange.getRequest().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        if (encoding == null || !"gzip".equalsIgnoreCase(encoding.trim())) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    headers.remove(HttpHeaders.CONTENT_ENCODING);
+                    headers.remove(HttpHeaders.CONTENT_LENGTH);
+                })
+                .build();
+        ServerHttpRequest inflated = new ServerHttpRequestDecorator(request) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return inflate(super.getBody());
+            }
+        };
+        return chain.filter(exchange.mutate().request(inflated).build());
+    }
+
+    private Flux<DataBuffer> inflate(Flux<DataBuffer> body) {
+        long limit = maxInflatedSize.toBytes();
+        return Flux.using(
+                        () -> new EmbeddedChannel(new JdkZlibDecoder(ZlibWrapper.GZIP, (int) maxAllocation.toBytes())),
+                        channel -> {
+                            AtomicLong inflatedBytes = new AtomicLong();
+                            return body
+                                    .concatMap(buffer -> inflate(channel, toByteBuf(buffer), inflatedBytes, limit))
+                                    .concatWith(Flux.defer(() -> {
+                                        channel.finish();
+                                        return inflate(channel, Unpooled.EMPTY_BUFFER, inflatedBytes, limit);
+                                    }));
+                        },
+                        EmbeddedChannel::finishAndReleaseAll
+                )
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .onErrorMap(DecompressionException.class, e -> new ProductException(SB_PL_INVALID_INPUT_DATA));
+    }
+
+    /**
+     * Inflated chunks are handed downstream one per request: the next input slice is only fed to
+     * the decoder once everything the previous one produced has been consumed.
+     */
+    private static Flux<DataBuffer> inflate(EmbeddedChannel channel, ByteBuf input, AtomicLong inflatedBytes, long limit) {
+        return Flux.generate(() -> input, (in, sink) -> {
+            ByteBuf chunk = channel.readInbound();
+            while (chunk == null && in.isReadable()) {
+                channel.writeInbound(in.readRetainedSlice(Math.min(INPUT_SLICE_BYTES, in.readableBytes())));
+                chunk = channel.readInbound();
+            }
+            if (chunk == null) {
+                sink.complete();
+            } else if (inflatedBytes.addAndGet(chunk.readableBytes()) > limit) {
+                chunk.release();
+                sink.error(new ProductException(SB_PL_PAYLOAD_TOO_LARGE));
+            } else {
+                sink.next(BUFFER_FACTORY.wrap(chunk));
+            }
+            return in;
+        }, ByteBuf::release);
+    }
+
+    private static ByteBuf toByteBuf(DataBuffer buffer) {
+        if (buffer instanceof NettyDataBuffer nettyBuffer) {
+            return nettyBuffer.getNativeBuffer();                           // released once sliced into the decoder
+        }
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return Unpooled.wrappedBuffer(bytes);
+    }
+}
@@ -0,0 +1,49 @@
+package com.brajesh.catalog.domain.product.filter;
+
+import com.brajesh.catalog.domain.product.config.RequestLoggingSettings;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Counts emitted items into the request summary and logs only a sample of them, so large
+ * responses do not format and write one log line per element on the event loop.
+ */
+@Component
+public class RequestItemLogger {
+
+    private final RequestLoggingSettings settings;
+
+    public RequestItemLogger(@Autowired RequestLoggingSettings settings) {
+        this.settings = settings;
+    }
+
+    public <T> Function<Flux<T>, Flux<T>> items(Logger log, String message) {
+        return flux -> Flux.deferContextual(context -> {
+            RequestStats stats = context.getOrDefault(RequestStats.class, null);
+            return flux.doOnNext(item -> record(stats, log, message, item));
+        });
+    }
+
+    public <T> Function<Mono<T>, Mono<T>> item(Logger log, String message) {
+        return mono -> Mono.deferContextual(context -> {
+            RequestStats stats = context.getOrDefault(RequestStats.class, null);
+            return mono.doOnNext(item -> record(stats, log, message, item));
+        });
+    }
+
+    private void record(RequestStats stats, Logger log, String message, Object item) {
+        if (stats != null) {
+            stats.addItem();
+        }
+        double sampleRate = settings.getItemSampleRate();
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && log.isInfoEnabled()) {
+            log.info("{} (sampled) : {}", message, item);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.brajesh.catalog.domain.product.filter;
+
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Writes one summary line per request (status, items, bytes in/out, duration) instead of a
+ * line per emitted element. Switch it off or on at runtime by setting this logger's level
+ * through {@code /actuator/loggers}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLoggingFilter implements WebFilter {
+
+    private static final Logger logger = getLogger(RequestLoggingFilter.class);
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!logger.isInfoEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        RequestStats stats = new RequestStats();
+        ServerHttpRequest request = new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return super.getBody().doOnNext(buffer -> stats.bytesIn.add(buffer.readableByteCount()));
+            }
+        };
+        ServerHttpResponse response = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return super.writeWith(Flux.from(body).doOnNext(buffer -> stats.bytesOut.add(buffer.readableByteCount())));
+            }
+
+            @Override
+            public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+                return super.writeAndFlushWith(Flux.from(body).map(part ->
+                        Flux.from(part).doOnNext(buffer -> stats.bytesOut.add(buffer.readableByteCount()))));
+            }
+        };
+
+        return chain.filter(exchange.mutate().request(request).response(response).build())
+                .contextWrite(context -> context.put(RequestStats.class, stats))
+                .doFinally(signal -> logger.info("{} {} -> {} items={} in={}B out={}B {}ms{}",
+                        exchange.getRequest().getMethod(),
+                        exchange.getRequest().getPath(),
+                        exchange.getResponse().getStatusCode(),
+                        stats.items.sum(),
+                        stats.bytesIn.sum(),
+                        stats.bytesOut.sum(),
+                        (System.nanoTime() - stats.startNanos) / 1_000_000,
+                        switch (signal) {
+                            case CANCEL -> " (cancelled)";
+                            case ON_ERROR -> " (error)";
+                            default -> "";
+                        }));
+    }
+}
@@ -0,0 +1,19 @@
+package com.brajesh.catalog.domain.product.filter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-request counters, created by {@link RequestLoggingFilter} and carried in the Reactor
+ * context so handlers can count emitted items without touching the exchange.
+ */
+public final class RequestStats {
+
+    final long startNanos = System.nanoTime();
+    final LongAdder items = new LongAdder();
+    final LongAdder bytesIn = new LongAdder();
+    final LongAdder bytesOut = new LongAdder();
+
+    void addItem() {
+        items.increment();
+    }
+}
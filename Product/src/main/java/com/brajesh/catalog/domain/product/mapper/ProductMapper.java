@@ -1,14 +1,30 @@
 package com.brajesh.catalog.domain.product.mapper;
 
 import com.brajesh.catalog.domain.product.model.api.requestDto.ProductRequestDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.BulkImportProgressDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.BulkItemResultDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.FacetCountDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductChangeDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductChangesResponseDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductLookupResponseDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductPageResponseDto;
 import com.brajesh.catalog.domain.product.model.api.responseDto.ProductResponseDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductSearchResponseDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductSuggestionDto;
 import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.brajesh.catalog.domain.product.model.enumeration.BulkItemStatus;
+import com.brajesh.catalog.domain.product.model.search.ProductSearchResult;
+import com.brajesh.catalog.domain.product.utils.ContentHashUtils;
+import com.brajesh.catalog.domain.product.utils.PageTokenUtils;
+import com.brajesh.catalog.domain.product.utils.SearchTokenUtils;
+import com.brajesh.catalog.domain.product.utils.SyncTokenUtils;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @NoArgsConstructor
@@ -22,6 +38,16 @@ public class ProductMapper {
                 .brand(productRequestDto.getBrand())
                 .manufacturer(productRequestDto.getManufacturer())
                 .price(productRequestDto.getPrice())
+                .contentHash(ContentHashUtils.contentHash(
+                        productRequestDto.getProductId(),
+                        productRequestDto.getTitle(),
+                        productRequestDto.getBrand(),
+                        productRequestDto.getManufacturer(),
+                        productRequestDto.getPrice()))
+                .searchTokens(SearchTokenUtils.tokens(
+                        productRequestDto.getTitle(),
+                        productRequestDto.getBrand(),
+                        productRequestDto.getManufacturer()))
                 .build();
     }
 
@@ -46,6 +72,9 @@ public class ProductMapper {
                         .brand(pr.getBrand())
                         .manufacturer(pr.getManufacturer())
                         .price(pr.getPrice())
+                        .contentHash(ContentHashUtils.contentHash(
+                                pr.getProductId(), pr.getTitle(), pr.getBrand(), pr.getManufacturer(), pr.getPrice()))
+                        .searchTokens(SearchTokenUtils.tokens(pr.getTitle(), pr.getBrand(), pr.getManufacturer()))
                         .build())
                 .toList();
     }
@@ -64,4 +93,110 @@ public class ProductMapper {
 
 
     }
+
+    public static ProductLookupResponseDto toApiLookupDto(String productId, Product product) {
+
+        return ProductLookupResponseDto.builder()
+                .productId(productId)
+                .found(product != null)
+                .product(product != null ? toApiDto(product) : null)
+                .build();
+    }
+
+    public static BulkItemResultDto toBulkItemResult(long index, ProductRequestDto requestDto, BulkItemStatus status) {
+
+        return BulkItemResultDto.builder()
+                .index(index)
+                .productId(requestDto != null ? requestDto.getProductId() : null)
+                .status(status)
+                .build();
+    }
+
+    /**
+     * @param counts results seen so far, indexed by {@link BulkItemStatus#ordinal()}
+     */
+    public static BulkImportProgressDto toImportProgress(long[] counts, long elapsedMillis, boolean completed) {
+
+        long processed = 0;
+        for (long count : counts) {
+            processed += count;
+        }
+        return BulkImportProgressDto.builder()
+                .processed(processed)
+                .created(counts[BulkItemStatus.CREATED.ordinal()])
+                .updated(counts[BulkItemStatus.UPDATED.ordinal()])
+                .unchanged(counts[BulkItemStatus.UNCHANGED.ordinal()])
+                .duplicate(counts[BulkItemStatus.DUPLICATE.ordinal()])
+                .invalid(counts[BulkItemStatus.INVALID.ordinal()])
+                .failed(counts[BulkItemStatus.FAILED.ordinal()])
+                .elapsedMillis(elapsedMillis)
+                .completed(completed)
+                .build();
+    }
+
+    /**
+     * Builds a page from a result fetched with {@code pageSize + 1} rows: the extra row only
+     * signals that another page exists and is not returned.
+     */
+    public static ProductPageResponseDto toApiPageDto(List<Product> products, int pageSize) {
+
+        boolean hasNext = products.size() > pageSize;
+        List<Product> page = hasNext ? products.subList(0, pageSize) : products;
+        return ProductPageResponseDto.builder()
+                .items(page.stream().map(ProductMapper::toApiDto).toList())
+                .size(page.size())
+                .nextPageToken(hasNext ? PageTokenUtils.encode(page.get(pageSize - 1).getId()) : null)
+                .build();
+    }
+
+    /**
+     * Like {@link #toApiPageDto}: fetched with {@code pageSize + 1} rows, the extra row only
+     * signals that more changes are already available.
+     */
+    public static ProductChangesResponseDto toApiChangesDto(List<Product> products, int pageSize, String since) {
+
+        boolean hasMore = products.size() > pageSize;
+        List<Product> page = hasMore ? products.subList(0, pageSize) : products;
+        return ProductChangesResponseDto.builder()
+                .items(page.stream().map(ProductMapper::toApiDto).toList())
+                .size(page.size())
+                .syncToken(page.isEmpty() ? since : SyncTokenUtils.encode(page.getLast()))
+                .hasMore(hasMore)
+                .build();
+    }
+
+    public static ProductChangeDto toApiChangeDto(Product product) {
+
+        return ProductChangeDto.builder()
+                .syncToken(SyncTokenUtils.encode(product))
+                .product(toApiDto(product))
+                .build();
+    }
+
+    public static ProductSearchResponseDto toApiSearchDto(ProductSearchResult result, int page, int size) {
+
+        return ProductSearchResponseDto.builder()
+                .items(result.getItems().stream().map(ProductMapper::toApiDto).toList())
+                .total(result.getTotal())
+                .page(page)
+                .size(size)
+                .brands(toFacetCounts(result.getBrandCounts()))
+                .manufacturers(toFacetCounts(result.getManufacturerCounts()))
+                .build();
+    }
+
+    public static ProductSuggestionDto toApiSuggestionDto(Product product) {
+
+        return ProductSuggestionDto.builder()
+                .productId(product.getProductId())
+                .title(product.getTitle())
+                .build();
+    }
+
+    private static List<FacetCountDto> toFacetCounts(Map<String, Long> counts) {
+
+        return counts.entrySet().stream()
+                .map(count -> FacetCountDto.builder().value(count.getKey()).count(count.getValue()).build())
+                .toList();
+    }
 }
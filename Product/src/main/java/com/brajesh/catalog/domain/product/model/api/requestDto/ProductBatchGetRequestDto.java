@@ -0,0 +1,17 @@
+package com.brajesh.catalog.domain.product.model.api.requestDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductBatchGetRequestDto {
+
+    private List<String> productIds;
+}
@@ -0,0 +1,31 @@
+package com.brajesh.catalog.domain.product.model.api.requestDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Query parameters of {@code GET /products/search}; every filter is optional and they combine with AND.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductSearchRequestDto {
+
+    private String q;                 // full-text words over title, brand, manufacturer
+    private String prefix;            // typeahead: complete words plus a partial last word
+    private String brand;
+    private String manufacturer;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    @Builder.Default
+    private int page = 0;
+    @Builder.Default
+    private int size = 20;
+    @Builder.Default
+    private boolean facets = true;
+}
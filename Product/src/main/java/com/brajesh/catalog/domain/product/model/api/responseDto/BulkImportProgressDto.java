@@ -0,0 +1,21 @@
+package com.brajesh.catalog.domain.product.model.api.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class BulkImportProgressDto {
+
+    private long processed;
+    private long created;
+    private long updated;
+    private long unchanged;
+    private long duplicate;
+    private long invalid;
+    private long failed;
+    private long elapsedMillis;
+    private boolean completed;       // true only on the final summary line
+}
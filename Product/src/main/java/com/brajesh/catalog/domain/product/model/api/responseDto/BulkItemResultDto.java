@@ -0,0 +1,16 @@
+package com.brajesh.catalog.domain.product.model.api.responseDto;
+
+import com.brajesh.catalog.domain.product.model.enumeration.BulkItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class BulkItemResultDto {
+
+    private long index;              // position in the request body
+    private String productId;
+    private BulkItemStatus status;
+}
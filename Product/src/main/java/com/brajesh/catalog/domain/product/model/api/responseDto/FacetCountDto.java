@@ -0,0 +1,14 @@
+package com.brajesh.catalog.domain.product.model.api.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class FacetCountDto {
+
+    private String value;
+    private long count;
+}
@@ -0,0 +1,18 @@
+package com.brajesh.catalog.domain.product.model.api.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class PriceBucketDto {
+
+    private BigDecimal lowerBound;     // inclusive; null on the out-of-range bucket
+    private BigDecimal upperBound;     // exclusive, except for the last automatic bucket
+    private long count;
+    private BigDecimal avgPrice;
+}
@@ -0,0 +1,17 @@
+package com.brajesh.catalog.domain.product.model.api.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * One line of the streamed changes feed; the token resumes the feed right after this product.
+ */
+@Data
+@AllArgsConstructor
+@Builder
+public class ProductChangeDto {
+
+    private String syncToken;
+    private ProductResponseDto product;
+}
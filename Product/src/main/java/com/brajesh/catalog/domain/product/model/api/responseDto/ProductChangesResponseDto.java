@@ -0,0 +1,18 @@
+package com.brajesh.catalog.domain.product.model.api.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class ProductChangesResponseDto {
+
+    private List<ProductResponseDto> items;
+    private int size;
+    private String syncToken;        // send back as 'since'; unchanged when there is nothing new
+    private boolean hasMore;         // more changes are already available, fetch again right away
+}
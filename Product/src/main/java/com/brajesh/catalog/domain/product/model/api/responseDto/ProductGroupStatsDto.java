@@ -0,0 +1,20 @@
+package com.brajesh.catalog.domain.product.model.api.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class ProductGroupStatsDto {
+
+    private String value;              // brand or manufacturer; null groups products without one
+    private long count;
+    private long pricedCount;          // products with a price, the base of the price figures
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private BigDecimal avgPrice;
+}
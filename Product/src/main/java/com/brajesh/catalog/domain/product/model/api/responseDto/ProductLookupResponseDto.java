@@ -0,0 +1,15 @@
+package com.brajesh.catalog.domain.product.model.api.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class ProductLookupResponseDto {
+
+    private String productId;
+    private boolean found;
+    private ProductResponseDto product;    // null when not found
+}
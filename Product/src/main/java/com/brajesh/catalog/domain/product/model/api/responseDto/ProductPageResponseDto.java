@@ -0,0 +1,17 @@
+package com.brajesh.catalog.domain.product.model.api.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class ProductPageResponseDto {
+
+    private List<ProductResponseDto> items;
+    private int size;
+    private String nextPageToken;    // null on the last page
+}
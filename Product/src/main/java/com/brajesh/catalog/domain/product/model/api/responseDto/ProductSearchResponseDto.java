@@ -0,0 +1,20 @@
+package com.brajesh.catalog.domain.product.model.api.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Builder
+public class ProductSearchResponseDto {
+
+    private List<ProductResponseDto> items;
+    private long total;
+    private int page;
+    private int size;
+    private List<FacetCountDto> brands;           // empty when facets=false
+    private List<FacetCountDto> manufacturers;
+}
@@ -6,9 +6,17 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 
 @Data
 @AllArgsConstructor
@@ -16,13 +24,30 @@ import java.math.BigDecimal;
 @Builder
 
 @Document(collection = "products")
+@CompoundIndexes({
+        @CompoundIndex(name = "brand_price", def = "{'brand': 1, 'price': 1}"),               // covers per-brand stats
+        @CompoundIndex(name = "manufacturer_price", def = "{'manufacturer': 1, 'price': 1}"), // covers per-manufacturer stats
+        @CompoundIndex(name = "productId_validators", def = "{'productId': 1, 'contentHash': 1, 'lastModified': 1}"), // covers conditional GET
+        @CompoundIndex(name = "lastModified_id", def = "{'lastModified': 1, '_id': 1}")      // newest change for listing validators
+})
 
 public class Product {
     @Id
     private String Id;
+    @Indexed(unique = true)
     private String productId;
+    @TextIndexed(weight = 3)
     private String title;
+    @TextIndexed
     private String brand;
+    @TextIndexed
     private String manufacturer;
+    @Indexed                                        // price histograms scan this index only
+    @Field(targetType = FieldType.DECIMAL128)       // numeric, so price ranges compare by value
     private BigDecimal price;
+    private String contentHash;
+    @Indexed
+    private List<String> searchTokens;              // normalized words of title, brand, manufacturer for prefix search
+    private Long version;                           // 1 on insert, +1 on every content change
+    private Instant lastModified;
 }
@@ -0,0 +1,6 @@
+package com.brajesh.catalog.domain.product.model.enumeration;
+
+public enum BulkImportMode {
+    INSERT,   // Insert only, existing productIds are reported as duplicates
+    UPSERT    // Idempotent: replace by productId, skip documents whose content is unchanged
+}
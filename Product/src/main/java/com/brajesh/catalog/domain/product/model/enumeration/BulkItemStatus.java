@@ -0,0 +1,10 @@
+package com.brajesh.catalog.domain.product.model.enumeration;
+
+public enum BulkItemStatus {
+    CREATED,     // Inserted
+    UPDATED,     // Replaced an existing product with different content
+    UNCHANGED,   // Same content hash as the stored product, no write issued
+    DUPLICATE,   // productId already exists (or repeated within the same chunk)
+    INVALID,     // Rejected by validation, never written
+    FAILED       // Write rejected by the database for another reason (document validation, size, ...)
+}
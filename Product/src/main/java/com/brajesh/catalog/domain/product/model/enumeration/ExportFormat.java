@@ -0,0 +1,6 @@
+package com.brajesh.catalog.domain.product.model.enumeration;
+
+public enum ExportFormat {
+    NDJSON,   // One JSON object per line
+    CSV       // Header line, then one row per product
+}
@@ -0,0 +1,16 @@
+package com.brajesh.catalog.domain.product.model.enumeration;
+
+public enum ProductStatsGroup {
+    BRAND("brand"),
+    MANUFACTURER("manufacturer");
+
+    private final String field;
+
+    ProductStatsGroup(String field) {
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+}
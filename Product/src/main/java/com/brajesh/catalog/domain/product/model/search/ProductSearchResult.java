@@ -0,0 +1,24 @@
+package com.brajesh.catalog.domain.product.model.search;
+
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of search hits plus the total and facet counts over all hits, as returned by a
+ * single {@code $facet} aggregation. Facet maps are ordered by descending count.
+ */
+@Data
+@AllArgsConstructor
+@Builder
+public class ProductSearchResult {
+
+    private List<Product> items;
+    private long total;
+    private Map<String, Long> brandCounts;
+    private Map<String, Long> manufacturerCounts;
+}
@@ -0,0 +1,338 @@
+package com.brajesh.catalog.domain.product.model.snapshot;
+
+import com.brajesh.catalog.domain.product.model.entity.Product;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, column-oriented copy of the products collection for read serving.
+ * <ul>
+ *     <li>ids, productIds and titles are UTF-8 {@link StringColumn}s</li>
+ *     <li>brand and manufacturer are dictionary-encoded as int codes</li>
+ *     <li>price is an unscaled long plus a byte scale; values that do not fit go to a side map</li>
+ *     <li>contentHash, version and lastModified are kept so conditional GETs can be answered here</li>
+ *     <li>productId and _id lookups go through open-addressing hash tables of row numbers</li>
+ * </ul>
+ * {@link Product} objects are only materialized for the rows actually read. The columns can be
+ * written to and read back from a stream as-is, so a restart does not have to rebuild them.
+ */
+public final class ColumnarProductSnapshot {
+
+    private static final byte NO_PRICE = Byte.MIN_VALUE;
+    private static final int EMPTY = -1;
+    private static final long NO_VALUE = Long.MIN_VALUE;
+    private static final int FORMAT_VERSION = 2;
+
+    private final int size;
+    private final StringColumn ids;
+    private final StringColumn productIds;
+    private final StringColumn titles;
+    private final int[] brandCodes;
+    private final String[] brands;
+    private final int[] manufacturerCodes;
+    private final String[] manufacturers;
+    private final long[] unscaledPrices;
+    private final byte[] priceScales;
+    private final Map<Integer, BigDecimal> widePrices;
+    private final StringColumn contentHashes;
+    private final long[] versions;
+    private final long[] lastModifiedMillis;
+    private final int[] productIdIndex;
+    private final int[] idIndex;
+
+    private ColumnarProductSnapshot(Builder builder) {
+        this.size = builder.size;
+        this.ids = builder.ids.build();
+        this.productIds = builder.productIds.build();
+        this.titles = builder.titles.build();
+        this.brandCodes = Arrays.copyOf(builder.brandCodes, size);
+        this.brands = builder.brands.toArray(String[]::new);
+        this.manufacturerCodes = Arrays.copyOf(builder.manufacturerCodes, size);
+        this.manufacturers = builder.manufacturers.toArray(String[]::new);
+        this.unscaledPrices = Arrays.copyOf(builder.unscaledPrices, size);
+        this.priceScales = Arrays.copyOf(builder.priceScales, size);
+        this.widePrices = Map.copyOf(builder.widePrices);
+        this.contentHashes = builder.contentHashes.build();
+        this.versions = Arrays.copyOf(builder.versions, size);
+        this.lastModifiedMillis = Arrays.copyOf(builder.lastModifiedMillis, size);
+        this.productIdIndex = buildIndex(builder.productIdHashes, size);
+        this.idIndex = buildIndex(builder.idHashes, size);
+    }
+
+    private ColumnarProductSnapshot(DataInput in) throws IOException {
+        this.size = in.readInt();
+        this.ids = StringColumn.readFrom(in);
+        this.productIds = StringColumn.readFrom(in);
+        this.titles = StringColumn.readFrom(in);
+        this.brandCodes = StringColumn.readInts(in);
+        this.brands = readDictionary(in);
+        this.manufacturerCodes = StringColumn.readInts(in);
+        this.manufacturers = readDictionary(in);
+        this.unscaledPrices = readLongs(in, size);
+        this.priceScales = new byte[size];
+        in.readFully(priceScales);
+        Map<Integer, BigDecimal> wide = new HashMap<>();
+        for (int count = in.readInt(); count > 0; count--) {
+            wide.put(in.readInt(), new BigDecimal(in.readUTF()));
+        }
+        this.widePrices = Map.copyOf(wide);
+        this.contentHashes = StringColumn.readFrom(in);
+        this.versions = readLongs(in, size);
+        this.lastModifiedMillis = readLongs(in, size);
+        this.productIdIndex = StringColumn.readInts(in);
+        this.idIndex = StringColumn.readInts(in);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static ColumnarProductSnapshot readFrom(DataInput in) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format version " + version);
+        }
+        return new ColumnarProductSnapshot(in);
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(size);
+        ids.writeTo(out);
+        productIds.writeTo(out);
+        titles.writeTo(out);
+        StringColumn.writeInts(out, brandCodes);
+        writeDictionary(out, brands);
+        StringColumn.writeInts(out, manufacturerCodes);
+        writeDictionary(out, manufacturers);
+        writeLongs(out, unscaledPrices);
+        out.write(priceScales);
+        out.writeInt(widePrices.size());
+        for (Map.Entry<Integer, BigDecimal> wide : widePrices.entrySet()) {
+            out.writeInt(wide.getKey());
+            out.writeUTF(wide.getValue().toString());
+        }
+        contentHashes.writeTo(out);
+        writeLongs(out, versions);
+        writeLongs(out, lastModifiedMillis);
+        StringColumn.writeInts(out, productIdIndex);
+        StringColumn.writeInts(out, idIndex);
+    }
+
+    private static void writeLongs(DataOutput out, long[] values) throws IOException {
+        for (long value : values) {
+            out.writeLong(value);
+        }
+    }
+
+    private static long[] readLongs(DataInput in, int size) throws IOException {
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = in.readLong();
+        }
+        return values;
+    }
+
+    private static void writeDictionary(DataOutput out, String[] dictionary) throws IOException {
+        out.writeInt(dictionary.length);
+        for (String value : dictionary) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String[] readDictionary(DataInput in) throws IOException {
+        String[] dictionary = new String[in.readInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = in.readUTF();
+        }
+        return dictionary;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the row holding {@code productId}, or -1
+     */
+    public int rowOf(String productId) {
+        return lookup(productIdIndex, productIds, productId);
+    }
+
+    /**
+     * @return the row holding the document with Mongo {@code _id}, or -1
+     */
+    public int rowOfId(String id) {
+        return lookup(idIndex, ids, id);
+    }
+
+    public String productIdAt(int row) {
+        return productIds.get(row);
+    }
+
+    public Product get(int row) {
+        return Product.builder()
+                .Id(ids.get(row))
+                .productId(productIds.get(row))
+                .title(titles.get(row))
+                .brand(decode(brands, brandCodes[row]))
+                .manufacturer(decode(manufacturers, manufacturerCodes[row]))
+                .price(priceAt(row))
+                .contentHash(contentHashes.get(row))
+                .version(versions[row] == NO_VALUE ? null : versions[row])
+                .lastModified(lastModifiedMillis[row] == NO_VALUE ? null : Instant.ofEpochMilli(lastModifiedMillis[row]))
+                .build();
+    }
+
+    public long estimatedBytes() {
+        long bytes = ids.estimatedBytes() + productIds.estimatedBytes() + titles.estimatedBytes()
+                + contentHashes.estimatedBytes();
+        bytes += 4L * (brandCodes.length + manufacturerCodes.length + productIdIndex.length + idIndex.length);
+        bytes += 25L * size;                                                // price, scale, version, lastModified
+        for (String brand : brands) {
+            bytes += 40 + brand.length();
+        }
+        for (String manufacturer : manufacturers) {
+            bytes += 40 + manufacturer.length();
+        }
+        return bytes;
+    }
+
+    private BigDecimal priceAt(int row) {
+        byte scale = priceScales[row];
+        if (scale != NO_PRICE) {
+            return BigDecimal.valueOf(unscaledPrices[row], scale);
+        }
+        return widePrices.get(row);
+    }
+
+    private static String decode(String[] dictionary, int code) {
+        return code == EMPTY ? null : dictionary[code];
+    }
+
+    private static int lookup(int[] index, StringColumn column, String key) {
+        if (key == null || index.length == 0) {
+            return EMPTY;
+        }
+        byte[] utf8 = key.getBytes(StandardCharsets.UTF_8);
+        int mask = index.length - 1;
+        for (int slot = spread(key.hashCode()) & mask; index[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (column.equalsAt(index[slot], utf8)) {
+                return index[slot];
+            }
+        }
+        return EMPTY;
+    }
+
+    private static int[] buildIndex(int[] hashes, int size) {
+        int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;    // load factor <= 0.5
+        int[] index = new int[capacity];
+        Arrays.fill(index, EMPTY);
+        int mask = capacity - 1;
+        for (int row = 0; row < size; row++) {
+            int slot = spread(hashes[row]) & mask;
+            while (index[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            index[slot] = row;
+        }
+        return index;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    public static final class Builder {
+
+        private final StringColumn.Builder ids = new StringColumn.Builder();
+        private final StringColumn.Builder productIds = new StringColumn.Builder();
+        private final StringColumn.Builder titles = new StringColumn.Builder();
+        private final Map<String, Integer> brandCodesByValue = new HashMap<>();
+        private final List<String> brands = new ArrayList<>();
+        private final Map<String, Integer> manufacturerCodesByValue = new HashMap<>();
+        private final List<String> manufacturers = new ArrayList<>();
+        private final Map<Integer, BigDecimal> widePrices = new HashMap<>();
+        private final StringColumn.Builder contentHashes = new StringColumn.Builder();
+        private long[] versions = new long[64];
+        private long[] lastModifiedMillis = new long[64];
+        private int[] brandCodes = new int[64];
+        private int[] manufacturerCodes = new int[64];
+        private long[] unscaledPrices = new long[64];
+        private byte[] priceScales = new byte[64];
+        private int[] productIdHashes = new int[64];
+        private int[] idHashes = new int[64];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(Product product) {
+            if (size == brandCodes.length) {
+                grow();
+            }
+            ids.add(product.getId());
+            productIds.add(product.getProductId());
+            titles.add(product.getTitle());
+            brandCodes[size] = encode(brandCodesByValue, brands, product.getBrand());
+            manufacturerCodes[size] = encode(manufacturerCodesByValue, manufacturers, product.getManufacturer());
+            addPrice(product.getPrice());
+            contentHashes.add(product.getContentHash());
+            versions[size] = product.getVersion() == null ? NO_VALUE : product.getVersion();
+            lastModifiedMillis[size] = product.getLastModified() == null ? NO_VALUE : product.getLastModified().toEpochMilli();
+            productIdHashes[size] = product.getProductId() == null ? 0 : product.getProductId().hashCode();
+            idHashes[size] = product.getId() == null ? 0 : product.getId().hashCode();
+            size++;
+            return this;
+        }
+
+        public ColumnarProductSnapshot build() {
+            return new ColumnarProductSnapshot(this);
+        }
+
+        private void addPrice(BigDecimal price) {
+            if (price != null && price.scale() > NO_PRICE && price.scale() <= Byte.MAX_VALUE
+                    && price.unscaledValue().bitLength() < Long.SIZE) {
+                unscaledPrices[size] = price.unscaledValue().longValue();
+                priceScales[size] = (byte) price.scale();
+                return;
+            }
+            priceScales[size] = NO_PRICE;
+            if (price != null) {
+                widePrices.put(size, price);
+            }
+        }
+
+        private static int encode(Map<String, Integer> codes, List<String> dictionary, String value) {
+            if (value == null) {
+                return EMPTY;
+            }
+            return codes.computeIfAbsent(value, v -> {
+                dictionary.add(v);
+                return dictionary.size() - 1;
+            });
+        }
+
+        private void grow() {
+            int capacity = brandCodes.length * 2;
+            brandCodes = Arrays.copyOf(brandCodes, capacity);
+            manufacturerCodes = Arrays.copyOf(manufacturerCodes, capacity);
+            unscaledPrices = Arrays.copyOf(unscaledPrices, capacity);
+            priceScales = Arrays.copyOf(priceScales, capacity);
+            productIdHashes = Arrays.copyOf(productIdHashes, capacity);
+            idHashes = Arrays.copyOf(idHashes, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            lastModifiedMillis = Arrays.copyOf(lastModifiedMillis, capacity);
+        }
+    }
+}
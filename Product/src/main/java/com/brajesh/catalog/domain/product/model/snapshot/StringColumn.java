@@ -0,0 +1,113 @@
+package com.brajesh.catalog.domain.product.model.snapshot;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Column of strings stored as one UTF-8 byte array plus row offsets, instead of one
+ * {@link String} object (header, array, hash) per row.
+ */
+final class StringColumn {
+
+    private final byte[] data;
+    private final int[] offsets;     // row i spans [offsets[i], offsets[i + 1])
+    private final BitSet nulls;
+
+    private StringColumn(byte[] data, int[] offsets, BitSet nulls) {
+        this.data = data;
+        this.offsets = offsets;
+        this.nulls = nulls;
+    }
+
+    String get(int row) {
+        if (nulls.get(row)) {
+            return null;
+        }
+        return new String(data, offsets[row], offsets[row + 1] - offsets[row], StandardCharsets.UTF_8);
+    }
+
+    boolean equalsAt(int row, byte[] utf8) {
+        return !nulls.get(row)
+                && Arrays.equals(data, offsets[row], offsets[row + 1], utf8, 0, utf8.length);
+    }
+
+    long estimatedBytes() {
+        return data.length + 4L * offsets.length + nulls.size() / 8;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(data.length);
+        out.write(data);
+        writeInts(out, offsets);
+        long[] nullWords = nulls.toLongArray();
+        out.writeInt(nullWords.length);
+        for (long word : nullWords) {
+            out.writeLong(word);
+        }
+    }
+
+    static StringColumn readFrom(DataInput in) throws IOException {
+        byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        int[] offsets = readInts(in);
+        long[] nullWords = new long[in.readInt()];
+        for (int i = 0; i < nullWords.length; i++) {
+            nullWords[i] = in.readLong();
+        }
+        return new StringColumn(data, offsets, BitSet.valueOf(nullWords));
+    }
+
+    static void writeInts(DataOutput out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    static int[] readInts(DataInput in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    static final class Builder {
+
+        private byte[] data = new byte[1024];
+        private int[] offsets = new int[65];
+        private final BitSet nulls = new BitSet();
+        private int rows;
+
+        void add(String value) {
+            int start = offsets[rows];
+            int length = 0;
+            if (value == null) {
+                nulls.set(rows);
+            } else {
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                if (start + utf8.length > data.length) {
+                    data = Arrays.copyOf(data, Math.max(data.length * 2, start + utf8.length));
+                }
+                System.arraycopy(utf8, 0, data, start, utf8.length);
+                length = utf8.length;
+            }
+            if (rows + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[rows + 1] = start + length;
+            rows++;
+        }
+
+        StringColumn build() {
+            return new StringColumn(
+                    Arrays.copyOf(data, offsets[rows]),
+                    Arrays.copyOf(offsets, rows + 1),
+                    nulls);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.brajesh.catalog.domain.product.model.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * Position in the changes feed: the {@code (lastModified, _id)} key of the last product a
+ * consumer has applied. Ties on lastModified are broken by {@code _id}, so no change is
+ * returned twice or skipped between pages.
+ */
+@Data
+@AllArgsConstructor
+public class SyncPosition {
+
+    private Instant lastModified;
+    private String id;
+}
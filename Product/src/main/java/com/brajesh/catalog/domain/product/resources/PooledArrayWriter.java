@@ -0,0 +1,156 @@
+package com.brajesh.catalog.domain.product.resources;
+
+import com.brajesh.catalog.domain.product.config.BinaryCodecsConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes large arrays as a stream of bounded buffers from the server's (pooled, on Netty)
+ * {@link DataBufferFactory}, instead of the encoder's intermediate byte arrays or one buffer
+ * for the whole array. A single generator writes the array; every {@code ~CHUNK_BYTES} of
+ * elements its output is switched to a fresh buffer, which is emitted and released by the
+ * response writer once flushed. Each buffer stays a normal pooled allocation however large
+ * the array is. JSON, CBOR and Smile are written the same way, so negotiation is preserved.
+ */
+@Component
+public class PooledArrayWriter {
+
+    private static final int CHUNK_BYTES = 32 * 1024;
+    private static final int INITIAL_ELEMENT_BYTES = 160;
+
+    private final Map<MediaType, ObjectMapper> mappers = new LinkedHashMap<>();
+    private volatile int averageElementBytes = INITIAL_ELEMENT_BYTES;
+
+    public PooledArrayWriter(@Autowired JsonMapper jsonMapper,
+                             @Autowired ObjectProvider<CBORMapper> cborMapper,
+                             @Autowired ObjectProvider<SmileMapper> smileMapper) {
+        mappers.put(MediaType.APPLICATION_JSON, jsonMapper);                 // first: the default
+        cborMapper.ifAvailable(mapper -> mappers.put(MediaType.APPLICATION_CBOR, mapper));
+        smileMapper.ifAvailable(mapper -> mappers.put(BinaryCodecsConfig.APPLICATION_SMILE, mapper));
+    }
+
+    /**
+     * First supported type in the client's {@code Accept} order; JSON when nothing matches.
+     */
+    public MediaType negotiate(ServerHttpRequest request) {
+        for (MediaType accepted : request.getHeaders().getAccept()) {
+            for (MediaType supported : mappers.keySet()) {
+                if (accepted.isCompatibleWith(supported)) {
+                    return supported;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    public <T> Flux<DataBuffer> writeArray(Flux<T> elements, Class<T> elementType, MediaType mediaType,
+                                           DataBufferFactory bufferFactory) {
+
+        ObjectMapper mapper = mappers.getOrDefault(mediaType, mappers.get(MediaType.APPLICATION_JSON));
+        return Flux.using(
+                        () -> new ArrayStream(mapper, mapper.writerFor(elementType), bufferFactory),
+                        stream -> elements
+                                .buffer(Math.max(1, CHUNK_BYTES / averageElementBytes))
+                                .map(stream::write)
+                                .concatWith(Mono.fromCallable(stream::finish)),
+                        ArrayStream::close)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * One generator per response, writing through an output stream whose target buffer is
+     * swapped per chunk.
+     */
+    private final class ArrayStream extends OutputStream {
+
+        private final ObjectMapper mapper;
+        private final ObjectWriter writer;
+        private final DataBufferFactory bufferFactory;
+        private JsonGenerator generator;
+        private DataBuffer target;
+
+        ArrayStream(ObjectMapper mapper, ObjectWriter writer, DataBufferFactory bufferFactory) {
+            this.mapper = mapper;
+            this.writer = writer;
+            this.bufferFactory = bufferFactory;
+        }
+
+        <T> DataBuffer write(List<T> chunk) {
+            target = bufferFactory.allocateBuffer(Math.min(CHUNK_BYTES * 2, chunk.size() * averageElementBytes + 16));
+            startArray();
+            for (T element : chunk) {
+                writer.writeValue(generator, element);
+            }
+            generator.flush();
+            averageElementBytes = Math.max(16, (averageElementBytes + target.readableByteCount() / chunk.size()) / 2);
+            return take();
+        }
+
+        DataBuffer finish() {
+            target = bufferFactory.allocateBuffer(16);
+            startArray();
+            generator.writeEndArray();
+            generator.flush();
+            return take();
+        }
+
+        private void startArray() {
+            if (generator == null) {
+                generator = mapper.createGenerator(this);
+                generator.writeStartArray();
+            }
+        }
+
+        private DataBuffer take() {
+            DataBuffer buffer = target;
+            target = null;
+            return buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            if (target != null) {
+                target.write((byte) b);
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            if (target != null) {
+                target.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void close() {
+            DataBuffer pending = take();                                 // cancelled or failed mid-chunk
+            if (pending != null) {
+                DataBufferUtils.release(pending);
+            }
+            if (generator != null) {
+                JsonGenerator open = generator;
+                generator = null;
+                open.close();                                            // output goes nowhere now
+            }
+        }
+    }
+}
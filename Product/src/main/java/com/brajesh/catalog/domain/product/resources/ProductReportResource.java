@@ -0,0 +1,58 @@
+package com.brajesh.catalog.domain.product.resources;
+
+
+import com.brajesh.catalog.domain.product.model.api.responseDto.PriceBucketDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductGroupStatsDto;
+import com.brajesh.catalog.domain.product.model.enumeration.ProductStatsGroup;
+import com.brajesh.catalog.domain.product.services.ProductReportService;
+import com.brajesh.catalog.domain.product.utils.ValidationUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.brajesh.catalog.domain.product.constant.UriConstants.*;
+
+
+@RestController
+@RequestMapping(API_PRODUCT)
+public class ProductReportResource {
+
+    private final ProductReportService productReportService;
+
+    @Value("${product.report.max-buckets:100}")
+    private int maxBuckets;
+
+    public ProductReportResource(@Autowired ProductReportService productReportService) {
+        this.productReportService = productReportService;
+    }
+
+    /**
+     * {@code GET /products/stats?groupBy=BRAND}: one row per brand (or manufacturer) with count and
+     * min / max / average price. Streamed as a JSON array, or as NDJSON on {@code Accept: application/x-ndjson}.
+     */
+    @GetMapping(value = PRODUCTS_STATS, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ProductGroupStatsDto> productStats(@RequestParam(defaultValue = "BRAND") ProductStatsGroup groupBy) {
+        return productReportService.groupStats(groupBy);
+    }
+
+    /**
+     * {@code GET /products/price-histogram?boundaries=0,50,100,500} for fixed buckets, or
+     * {@code ?buckets=10} for buckets of roughly equal population; optionally per brand or manufacturer.
+     */
+    @GetMapping(value = PRODUCTS_PRICE_HISTOGRAM, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<PriceBucketDto> priceHistogram(@RequestParam(required = false) List<BigDecimal> boundaries,
+                                               @RequestParam(defaultValue = "10") int buckets,
+                                               @RequestParam(required = false) String brand,
+                                               @RequestParam(required = false) String manufacturer) {
+        return Flux.defer(() -> boundaries != null
+                ? productReportService.priceHistogram(
+                        ValidationUtils.validateHistogramBoundaries(boundaries, maxBuckets), brand, manufacturer)
+                : productReportService.priceHistogram(
+                        ValidationUtils.validateBucketCount(buckets, maxBuckets), brand, manufacturer));
+    }
+}
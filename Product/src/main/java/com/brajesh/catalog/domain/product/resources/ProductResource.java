@@ -1,19 +1,40 @@
 package com.brajesh.catalog.domain.product.resources;
 
 
+import com.brajesh.catalog.domain.product.config.BinaryCodecsConfig;
+import com.brajesh.catalog.domain.product.filter.RequestItemLogger;
 import com.brajesh.catalog.domain.product.mapper.ProductMapper;
+import com.brajesh.catalog.domain.product.model.api.requestDto.ProductBatchGetRequestDto;
 import com.brajesh.catalog.domain.product.model.api.requestDto.ProductRequestDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.BulkItemResultDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductChangeDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductChangesResponseDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductLookupResponseDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductPageResponseDto;
 import com.brajesh.catalog.domain.product.model.api.responseDto.ProductResponseDto;
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.brajesh.catalog.domain.product.model.enumeration.BulkImportMode;
+import com.brajesh.catalog.domain.product.services.ProductBulkService;
 import com.brajesh.catalog.domain.product.services.ProductService;
+import com.brajesh.catalog.domain.product.utils.PageTokenUtils;
+import com.brajesh.catalog.domain.product.utils.SyncTokenUtils;
 import com.brajesh.catalog.domain.product.utils.ValidationUtils;
+import com.brajesh.catalog.domain.product.utils.VersionUtils;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Set;
 
 import static com.brajesh.catalog.domain.product.constant.UriConstants.*;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -25,9 +46,27 @@ public class ProductResource {
 
     private static final Logger logger= getLogger(ProductResource.class);
     private final ProductService productService;
+    private final ProductBulkService productBulkService;
+    private final RequestItemLogger requestItemLogger;
+    private final PooledArrayWriter pooledArrayWriter;
 
-    public ProductResource(@Autowired ProductService productService) {
+    @Value("${product.page.max-size:500}")
+    private int maxPageSize;
+
+    @Value("${product.batch-get.max-size:10000}")
+    private int maxBatchGetSize;
+
+    @Value("${product.changes.max-size:1000}")
+    private int maxChangesSize;
+
+    public ProductResource(@Autowired ProductService productService,
+                           @Autowired ProductBulkService productBulkService,
+                           @Autowired RequestItemLogger requestItemLogger,
+                           @Autowired PooledArrayWriter pooledArrayWriter) {
         this.productService = productService;
+        this.productBulkService = productBulkService;
+        this.requestItemLogger = requestItemLogger;
+        this.pooledArrayWriter = pooledArrayWriter;
     }
 
     @PostMapping(API_CREATE_PRODUCT)
@@ -37,36 +76,162 @@ public class ProductResource {
                 .map(ProductMapper::toEntity)
                 .flatMap(productService::createProductService)
                 .map(ProductMapper::toApiDto)
-                .doOnNext(response -> logger.info("Response of Product : {}", response));
+                .transform(requestItemLogger.item(logger, "Response of Product"));
 
     }
 
+    /**
+     * The response is streamed as products are written. The status is chosen on the first
+     * signal, so a write failing before any product is saved still becomes an error response;
+     * a later failure ends the already started array.
+     */
     @PostMapping(API_CREATE_BULK_PRODUCT)
-    @ResponseStatus(HttpStatus.CREATED)
-    public Flux<ProductResponseDto> createBulkProduct(@RequestBody List<ProductRequestDto> productRequestDtoList){
+    public Mono<ResponseEntity<Flux<DataBuffer>>> createBulkProduct(@RequestBody List<ProductRequestDto> productRequestDtoList,
+                                                                    ServerWebExchange exchange){
         return ValidationUtils.validateAndReturnList(productRequestDtoList) // Mono<List<ProductRequestDto>>
                 .map(ProductMapper::toBulkEntity)                                                         // Mono<List<Product>>
                 .flatMapMany(productService::createBulkProductService)      // Flux<Product>
                 .map(ProductMapper::toApiDto)                               // Flux<ProductResponseDto>
-                .doOnNext(response ->
-                        logger.info("Response of list Product : {}", response));
+                .transform(requestItemLogger.items(logger, "Response of list Product"))
+                .switchOnFirst((first, products) -> first.hasError()
+                        ? Flux.error(first.getThrowable())
+                        : Flux.just(toArrayResponse(ResponseEntity.status(HttpStatus.CREATED), products, exchange)),
+                        false)                                              // products is consumed by the writer later
+                .single();
     }
 
+    /**
+     * JSON or Smile; CBOR is not accepted here because its decoder cannot split a stream into elements.
+     */
+    @PostMapping(value = API_INGEST_BULK_PRODUCT, consumes = {MediaType.APPLICATION_JSON_VALUE, BinaryCodecsConfig.APPLICATION_SMILE_VALUE})
+    public Flux<BulkItemResultDto> ingestBulkProduct(@RequestBody Flux<ProductRequestDto> productRequestDtos,
+                                                     @RequestParam(defaultValue = "INSERT") BulkImportMode mode) {
+        return productBulkService.ingest(productRequestDtos, mode)       // array elements decoded one by one
+                .transform(requestItemLogger.items(logger, "Bulk ingest result"));
+    }
+
+    /**
+     * Answers {@code If-None-Match} with 304 from two index-only reads, before the listing is read.
+     */
     @GetMapping(PRODUCTS)
-    public Mono<List<ProductResponseDto>> listProduct() {
-        return productService.listOfAllProduct().
-                map(ProductMapper::toApiDto)
-                .collectList();
+    public Mono<ResponseEntity<Flux<DataBuffer>>> listProduct(ServerWebExchange exchange) {
+        return productService.getListingEtag()
+                .flatMap(etag -> exchange.checkNotModified(etag)
+                        ? Mono.empty()
+                        : Mono.just(toArrayResponse(ResponseEntity.ok().eTag(etag),
+                                productService.listOfAllProduct().map(ProductMapper::toApiDto), exchange)));
     }
 
+    /**
+     * The array goes out as a stream of bounded pooled buffers written by {@link PooledArrayWriter},
+     * in the format negotiated from {@code Accept}.
+     */
+    private ResponseEntity<Flux<DataBuffer>> toArrayResponse(ResponseEntity.BodyBuilder response,
+                                                             Flux<ProductResponseDto> products,
+                                                             ServerWebExchange exchange) {
+        MediaType mediaType = pooledArrayWriter.negotiate(exchange.getRequest());
+        return response.contentType(mediaType)
+                .body(pooledArrayWriter.writeArray(products, ProductResponseDto.class, mediaType,
+                        exchange.getResponse().bufferFactory()));
+    }
+
+    @GetMapping(value = PRODUCTS, produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<ProductResponseDto> streamProduct() {
+        return productService.streamAllProduct()
+                .map(ProductMapper::toApiDto);
+    }
+
+    @GetMapping(PRODUCTS_PAGE)
+    public Mono<ProductPageResponseDto> listProductPage(@RequestParam(required = false) String pageToken,
+                                                        @RequestParam(defaultValue = "50") int size,
+                                                        @RequestParam(required = false) List<String> fields) {
+        return Mono.defer(() -> {
+            int pageSize = ValidationUtils.validatePageSize(size, maxPageSize);
+            Set<String> projection = ValidationUtils.validateProjection(fields);
+            return productService.listProductPage(PageTokenUtils.decode(pageToken), pageSize + 1, projection)
+                    .collectList()
+                    .map(products -> ProductMapper.toApiPageDto(products, pageSize));
+        });
+    }
+
+    /**
+     * Incremental sync: products inserted or updated after the {@code since} token, oldest first.
+     * Without a token the feed starts from the oldest change. Deletes are not part of the feed.
+     */
+    @GetMapping(PRODUCTS_CHANGES)
+    public Mono<ProductChangesResponseDto> listProductChanges(@RequestParam(required = false) String since,
+                                                              @RequestParam(defaultValue = "500") int size) {
+        return Mono.defer(() -> {
+            int pageSize = ValidationUtils.validatePageSize(size, maxChangesSize);
+            return productService.listChangesSince(SyncTokenUtils.decode(since), pageSize + 1)
+                    .collectList()
+                    .map(products -> ProductMapper.toApiChangesDto(products, pageSize, since));
+        });
+    }
+
+    /**
+     * Same feed without a page limit, straight off the cursor; every line carries the token to
+     * resume from if the stream breaks.
+     */
+    @GetMapping(value = PRODUCTS_CHANGES, produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<ProductChangeDto> streamProductChanges(@RequestParam(required = false) String since) {
+        return Flux.defer(() -> productService.listChangesSince(SyncTokenUtils.decode(since), 0))
+                .map(ProductMapper::toApiChangeDto);
+    }
+
+    @PostMapping(PRODUCTS_BATCH_GET)
+    public Flux<ProductLookupResponseDto> batchGetProducts(@RequestBody ProductBatchGetRequestDto requestDto) {
+        return ValidationUtils.validateBatchGet(requestDto.getProductIds(), maxBatchGetSize)
+                .flatMapMany(productIds -> productService.getProducts(productIds)
+                        .flatMapIterable(found -> productIds.stream()                 // request order
+                                .map(productId -> ProductMapper.toApiLookupDto(productId, found.get(productId)))
+                                .toList()));
+    }
+
+    /**
+     * Strong ETag (content hash) and Last-Modified on every response. A conditional request is
+     * first checked against the validators alone and answered with 304 without loading or
+     * serializing the product.
+     */
     @GetMapping(PRODUCTS_BY_ID)
-    public Mono<ProductResponseDto> retrieveProduct(@RequestParam(required = false) String productId) {
+    public Mono<ResponseEntity<ProductResponseDto>> retrieveProduct(@RequestParam(required = false) String productId,
+                                                                    ServerWebExchange exchange) {
 
         return Mono.just(productId)
                 .filter(ValidationUtils::isMissingOrValidProductId)
-                .flatMap(productService::getProduct)
-                .map(ProductMapper::toApiDto)
-                ;
+                .flatMap(id -> isConditional(exchange)
+                        ? productService.getProductValidators(id)
+                                .flatMap(validators -> isNotModified(exchange, validators)
+                                        ? Mono.empty()
+                                        : productService.getProduct(id).map(this::toConditionalResponse))
+                        : productService.getProduct(id).map(this::toConditionalResponse));
+
+    }
+
+    private ResponseEntity<ProductResponseDto> toConditionalResponse(Product product) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(VersionUtils.etag(product));
+        if (product.getLastModified() != null) {
+            response.lastModified(product.getLastModified());
+        }
+        return response.body(ProductMapper.toApiDto(product));
+    }
+
+    private static boolean isConditional(ServerWebExchange exchange) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        return headers.containsHeader(HttpHeaders.IF_NONE_MATCH) || headers.containsHeader(HttpHeaders.IF_MODIFIED_SINCE);
+    }
 
+    /**
+     * Documents written before content hashes existed are never answered with 304: their ETag
+     * is hashed from fields the validators projection does not load.
+     */
+    private static boolean isNotModified(ServerWebExchange exchange, Product validators) {
+        if (validators.getContentHash() == null) {
+            return false;
+        }
+        String etag = VersionUtils.etag(validators);
+        return validators.getLastModified() != null
+                ? exchange.checkNotModified(etag, validators.getLastModified())
+                : exchange.checkNotModified(etag);
     }
 }
@@ -0,0 +1,68 @@
+package com.brajesh.catalog.domain.product.resources;
+
+
+import com.brajesh.catalog.domain.product.mapper.ProductMapper;
+import com.brajesh.catalog.domain.product.model.api.requestDto.ProductSearchRequestDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductSearchResponseDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductSuggestionDto;
+import com.brajesh.catalog.domain.product.services.ProductSearchService;
+import com.brajesh.catalog.domain.product.services.ProductTypeaheadIndex;
+import com.brajesh.catalog.domain.product.utils.ValidationUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.brajesh.catalog.domain.product.constant.UriConstants.*;
+
+
+@RestController
+@RequestMapping(API_PRODUCT)
+public class ProductSearchResource {
+
+    private final ProductSearchService productSearchService;
+    private final ProductTypeaheadIndex productTypeaheadIndex;
+
+    @Value("${product.search.max-size:100}")
+    private int maxSearchSize;
+
+    @Value("${product.search.max-offset:1000}")
+    private int maxSearchOffset;
+
+    public ProductSearchResource(@Autowired ProductSearchService productSearchService,
+                                 @Autowired ProductTypeaheadIndex productTypeaheadIndex) {
+        this.productSearchService = productSearchService;
+        this.productTypeaheadIndex = productTypeaheadIndex;
+    }
+
+    /**
+     * {@code GET /products/search?q=headphones&brand=SoundMax&minPrice=50&maxPrice=150&page=0&size=20}.
+     * For keystroke typeahead use {@code prefix=wireless hea&facets=false&size=10}.
+     */
+    @GetMapping(PRODUCTS_SEARCH)
+    public Mono<ProductSearchResponseDto> searchProducts(@ModelAttribute ProductSearchRequestDto requestDto) {
+        return Mono.fromCallable(() -> ValidationUtils.validateSearch(requestDto, maxSearchSize, maxSearchOffset))
+                .flatMap(productSearchService::search)
+                .map(result -> ProductMapper.toApiSearchDto(result, requestDto.getPage(), requestDto.getSize()));
+    }
+
+    /**
+     * Typeahead suggestions, served from the in-process index when it is enabled and built,
+     * otherwise from a facet-less prefix search.
+     */
+    @GetMapping(PRODUCTS_SUGGEST)
+    public Flux<ProductSuggestionDto> suggestProducts(@RequestParam String prefix,
+                                                      @RequestParam(defaultValue = "10") int limit) {
+        ProductSearchRequestDto requestDto = ProductSearchRequestDto.builder()
+                .prefix(prefix)
+                .size(limit)
+                .facets(false)
+                .build();
+        return Mono.fromCallable(() -> ValidationUtils.validateSearch(requestDto, maxSearchSize, maxSearchOffset))
+                .flatMapMany(validated -> productTypeaheadIndex.isReady()
+                        ? Flux.fromIterable(productTypeaheadIndex.suggest(prefix, limit))
+                        : productSearchService.search(validated).flatMapIterable(result -> result.getItems()))
+                .map(ProductMapper::toApiSuggestionDto);
+    }
+}
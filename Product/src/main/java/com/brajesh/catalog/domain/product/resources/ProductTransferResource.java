@@ -0,0 +1,71 @@
+package com.brajesh.catalog.domain.product.resources;
+
+
+import com.brajesh.catalog.domain.product.model.api.requestDto.ProductRequestDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.BulkImportProgressDto;
+import com.brajesh.catalog.domain.product.model.enumeration.BulkImportMode;
+import com.brajesh.catalog.domain.product.model.enumeration.ExportFormat;
+import com.brajesh.catalog.domain.product.services.ProductBulkService;
+import com.brajesh.catalog.domain.product.services.ProductExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+
+import static com.brajesh.catalog.domain.product.constant.UriConstants.*;
+
+
+@RestController
+@RequestMapping(API_PRODUCT)
+public class ProductTransferResource {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    private static final MediaType APPLICATION_GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final ProductBulkService productBulkService;
+    private final ProductExportService productExportService;
+
+    public ProductTransferResource(@Autowired ProductBulkService productBulkService,
+                                   @Autowired ProductExportService productExportService) {
+        this.productBulkService = productBulkService;
+        this.productExportService = productExportService;
+    }
+
+    /**
+     * Catalog feed import: one JSON record per line, optionally sent with
+     * {@code Content-Encoding: gzip}. Records are parsed as they arrive and progress is
+     * streamed back per chunk, ending with a {@code completed=true} summary line.
+     */
+    @PostMapping(value = API_IMPORT_PRODUCT,
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BulkImportProgressDto> importProducts(@RequestBody Flux<ProductRequestDto> productRequestDtos,
+                                                      @RequestParam(defaultValue = "INSERT") BulkImportMode mode) {
+        return productBulkService.importProducts(productRequestDtos, mode);
+    }
+
+    /**
+     * Full-catalog download in productId order. To resume a broken download, pass the
+     * productId of the last complete record received as {@code resumeToken}; with gzip the
+     * resumed part is a new gzip member that can simply be appended to the partial file.
+     */
+    @GetMapping(API_EXPORT_PRODUCT)
+    public ResponseEntity<Flux<DataBuffer>> exportProducts(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                                                           @RequestParam(defaultValue = "false") boolean gzip,
+                                                           @RequestParam(required = false) String resumeToken,
+                                                           ServerWebExchange exchange) {
+        String filename = "products." + format.name().toLowerCase() + (gzip ? ".gz" : "");
+        MediaType contentType = gzip ? APPLICATION_GZIP
+                : format == ExportFormat.CSV ? TEXT_CSV : MediaType.APPLICATION_NDJSON;
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(productExportService.export(format, gzip, resumeToken, exchange.getResponse().bufferFactory()));
+    }
+}
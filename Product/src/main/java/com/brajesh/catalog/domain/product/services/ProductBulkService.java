@@ -0,0 +1,292 @@
+package com.brajesh.catalog.domain.product.services;
+
+import com.brajesh.catalog.domain.product.mapper.ProductMapper;
+import com.brajesh.catalog.domain.product.model.api.requestDto.ProductRequestDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.BulkImportProgressDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.BulkItemResultDto;
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.brajesh.catalog.domain.product.model.enumeration.BulkImportMode;
+import com.brajesh.catalog.domain.product.model.enumeration.BulkItemStatus;
+import com.brajesh.catalog.domain.product.utils.QueryUtils;
+import com.brajesh.catalog.domain.product.utils.ValidationUtils;
+import com.brajesh.catalog.domain.product.utils.VersionUtils;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.brajesh.catalog.domain.product.model.enumeration.BulkItemStatus.CREATED;
+import static com.brajesh.catalog.domain.product.model.enumeration.BulkItemStatus.DUPLICATE;
+import static com.brajesh.catalog.domain.product.model.enumeration.BulkItemStatus.FAILED;
+import static com.brajesh.catalog.domain.product.model.enumeration.BulkItemStatus.INVALID;
+import static com.brajesh.catalog.domain.product.model.enumeration.BulkItemStatus.UNCHANGED;
+import static com.brajesh.catalog.domain.product.model.enumeration.BulkItemStatus.UPDATED;
+
+/**
+ * Bulk ingestion pipeline: the request stream is cut into chunks of {@code chunkSize}
+ * and each chunk becomes one unordered {@code bulkWrite}, with at most {@code concurrency}
+ * chunks in flight. A bad record only affects its own result entry: validation failures are
+ * {@code INVALID}, duplicate keys {@code DUPLICATE} and other write errors {@code FAILED}.
+ */
+@Service
+public class ProductBulkService {
+
+    private static final int DUPLICATE_KEY = 11000;
+    private static final BulkWriteOptions UNORDERED = new BulkWriteOptions().ordered(false);
+    private static final ReplaceOptions UPSERT = new ReplaceOptions().upsert(true);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final List<ProductWriteListener> writeListeners;
+
+    @Value("${product.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${product.bulk.concurrency:4}")
+    private int concurrency;
+
+    public ProductBulkService(@Autowired ReactiveMongoTemplate mongoTemplate,
+                              @Autowired List<ProductWriteListener> writeListeners) {
+        this.mongoTemplate = mongoTemplate;
+        this.writeListeners = writeListeners;
+    }
+
+    public Flux<BulkItemResultDto> ingest(Flux<ProductRequestDto> requests, BulkImportMode mode) {
+
+        return requests.index()
+                .buffer(chunkSize)
+                .flatMap(chunk -> writeChunk(chunk, mode), concurrency);
+    }
+
+    /**
+     * Same pipeline as {@link #ingest}, but only running totals are kept: one progress line is
+     * emitted per chunk and a final summary on completion, so memory does not grow with the feed.
+     */
+    public Flux<BulkImportProgressDto> importProducts(Flux<ProductRequestDto> requests, BulkImportMode mode) {
+
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            long[] counts = new long[BulkItemStatus.values().length];
+            return ingest(requests, mode)
+                    .buffer(chunkSize)
+                    .map(results -> {
+                        results.forEach(result -> counts[result.getStatus().ordinal()]++);
+                        return ProductMapper.toImportProgress(counts, elapsedMillis(start), false);
+                    })
+                    .concatWith(Mono.fromSupplier(() -> ProductMapper.toImportProgress(counts, elapsedMillis(start), true)));
+        });
+    }
+
+    private Flux<BulkItemResultDto> writeChunk(List<Tuple2<Long, ProductRequestDto>> chunk, BulkImportMode mode) {
+
+        List<BulkItemResultDto> skipped = new ArrayList<>();
+        List<Tuple2<Long, Product>> accepted = new ArrayList<>(chunk.size());
+        for (Tuple2<Long, ProductRequestDto> item : chunk) {
+            if (ValidationUtils.isValidProductRequest(item.getT2())) {
+                accepted.add(item.mapT2(ProductMapper::toEntity));
+            } else {
+                skipped.add(ProductMapper.toBulkItemResult(item.getT1(), item.getT2(), INVALID));
+            }
+        }
+        if (accepted.isEmpty()) {
+            return Flux.fromIterable(skipped);
+        }
+
+        Flux<BulkItemResultDto> written = switch (mode) {
+            case INSERT -> insertChunk(accepted);
+            case UPSERT -> upsertChunk(latestPerProductId(accepted, skipped), skipped);
+        };
+        return written.concatWith(Flux.defer(() -> Flux.fromIterable(skipped)));
+    }
+
+    private Flux<BulkItemResultDto> insertChunk(List<Tuple2<Long, Product>> items) {
+
+        Instant now = Instant.now();
+        items.forEach(item -> VersionUtils.stamp(item.getT2(), null, now));
+        List<WriteModel<Document>> inserts = items.stream()
+                .<WriteModel<Document>>map(item -> new InsertOneModel<>(toDocument(item.getT2())))
+                .toList();
+        return bulkWrite(items, inserts);
+    }
+
+    /**
+     * Replaces by productId, but only for items whose content hash differs from the stored
+     * one; unchanged items are reported without a write so full-feed reloads only pay for the delta.
+     */
+    private Flux<BulkItemResultDto> upsertChunk(List<Tuple2<Long, Product>> items, List<BulkItemResultDto> skipped) {
+
+        List<String> productIds = items.stream().map(item -> item.getT2().getProductId()).toList();
+
+        return mongoTemplate.find(QueryUtils.findContentHashes(productIds), Product.class)
+                .collectMap(Product::getProductId)
+                .flatMapMany(stored -> {
+                    Instant now = Instant.now();
+                    List<Tuple2<Long, Product>> changed = new ArrayList<>(items.size());
+                    for (Tuple2<Long, Product> item : items) {
+                        Product product = item.getT2();
+                        Product previous = stored.get(product.getProductId());
+                        if (previous != null && previous.getContentHash() != null
+                                && Objects.equals(previous.getContentHash(), product.getContentHash())) {
+                            skipped.add(toResult(item, UNCHANGED));
+                        } else {
+                            product.setId(previous == null ? null : previous.getId());     // replacement keeps the stored _id
+                            VersionUtils.stamp(product, previous == null ? null : previous.getVersion(), now);
+                            changed.add(item);
+                        }
+                    }
+                    if (changed.isEmpty()) {
+                        return Flux.empty();
+                    }
+                    List<WriteModel<Document>> replaces = changed.stream()
+                            .<WriteModel<Document>>map(item -> new ReplaceOneModel<>(
+                                    Filters.eq("productId", item.getT2().getProductId()),
+                                    toDocument(item.getT2()),
+                                    UPSERT))
+                            .toList();
+                    return bulkWrite(changed, replaces);
+                });
+    }
+
+    private Flux<BulkItemResultDto> bulkWrite(List<Tuple2<Long, Product>> items, List<WriteModel<Document>> writes) {
+
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(Product.class))
+                .flatMap(collection -> Mono.from(collection.bulkWrite(writes, UNORDERED)))
+                .map(result -> ChunkOutcome.of(result, List.of()))
+                .onErrorResume(MongoBulkWriteException.class,
+                        e -> Mono.just(ChunkOutcome.of(e.getWriteResult(), e.getWriteErrors())))
+                .flatMapIterable(outcome -> {
+                    List<BulkItemResultDto> results = new ArrayList<>(items.size());
+                    for (int i = 0; i < items.size(); i++) {
+                        Tuple2<Long, Product> item = items.get(i);
+                        BulkItemStatus status = outcome.statusOf(i, writes.get(i));
+                        if (status == CREATED || status == UPDATED) {
+                            Product written = item.getT2();
+                            written.setId(outcome.idOf(i, writes.get(i), written.getId()));
+                            writeListeners.forEach(listener -> listener.onUpsert(written));
+                        }
+                        results.add(toResult(item, status));
+                    }
+                    return results;
+                });
+    }
+
+    /**
+     * A feed may repeat a productId within one chunk; only the last occurrence is written,
+     * earlier ones are reported as duplicates so two upserts never race on the same key.
+     */
+    private List<Tuple2<Long, Product>> latestPerProductId(List<Tuple2<Long, Product>> items,
+                                                           List<BulkItemResultDto> skipped) {
+
+        Map<String, Tuple2<Long, Product>> latest = new HashMap<>(items.size() * 2);
+        for (Tuple2<Long, Product> item : items) {
+            Tuple2<Long, Product> previous = latest.put(item.getT2().getProductId(), item);
+            if (previous != null) {
+                skipped.add(toResult(previous, DUPLICATE));
+            }
+        }
+        return latest.size() == items.size() ? items : List.copyOf(latest.values());
+    }
+
+    private BulkItemResultDto toResult(Tuple2<Long, Product> item, BulkItemStatus status) {
+
+        return BulkItemResultDto.builder()
+                .index(item.getT1())
+                .productId(item.getT2().getProductId())
+                .status(status)
+                .build();
+    }
+
+    private static long elapsedMillis(long startNanos) {
+
+        return Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+    }
+
+    private Document toDocument(Product product) {
+
+        Document document = new Document();
+        mongoTemplate.getConverter().write(product, document);
+        return document;
+    }
+
+    /**
+     * Unordered bulk writes report every failed position at once: duplicate keys are reported
+     * as {@code DUPLICATE}, any other write error as {@code FAILED}, each on its own item only.
+     */
+    private record ChunkOutcome(Map<Integer, BsonValue> upserted, Set<Integer> duplicates, Set<Integer> failed) {
+
+        static ChunkOutcome of(BulkWriteResult result, List<BulkWriteError> errors) {
+            Map<Integer, BsonValue> upserted = result.wasAcknowledged()
+                    ? result.getUpserts().stream().collect(Collectors.toMap(BulkWriteUpsert::getIndex, BulkWriteUpsert::getId))
+                    : Map.of();
+            Set<Integer> duplicates = new HashSet<>();
+            Set<Integer> failed = new HashSet<>();
+            for (BulkWriteError error : errors) {
+                (error.getCode() == DUPLICATE_KEY ? duplicates : failed).add(error.getIndex());
+            }
+            return new ChunkOutcome(upserted, duplicates, failed);
+        }
+
+        BulkItemStatus statusOf(int position, WriteModel<Document> write) {
+            if (duplicates.contains(position)) {
+                return DUPLICATE;
+            }
+            if (failed.contains(position)) {
+                return FAILED;
+            }
+            if (write instanceof InsertOneModel || upserted.containsKey(position)) {
+                return CREATED;
+            }
+            return UPDATED;
+        }
+
+        /**
+         * The driver sets {@code _id} on the inserted Document only, and returns the ids of
+         * upserted documents in the result; replaced documents already carry the stored id.
+         */
+        String idOf(int position, WriteModel<Document> write, String current) {
+            BsonValue id = write instanceof InsertOneModel<Document> insert
+                    ? toBsonId(insert.getDocument().get("_id"))
+                    : upserted.get(position);
+            if (id == null) {
+                return current;
+            }
+            return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.isString() ? id.asString().getValue() : current;
+        }
+
+        private static BsonValue toBsonId(Object id) {
+            return switch (id) {
+                case ObjectId objectId -> new BsonObjectId(objectId);
+                case String string -> new BsonString(string);
+                case null, default -> null;
+            };
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.brajesh.catalog.domain.product.services;
+
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Read-through cache for point lookups keyed by productId.
+ * Concurrent misses for the same key share a single in-flight load, and a load that
+ * completes empty is not cached so unknown ids keep reaching the not-found path.
+ */
+@Component
+public class ProductCache implements ProductWriteListener {
+
+    private final boolean enabled;
+    private final AsyncCache<String, Product> cache;
+
+    public ProductCache(@Value("${product.cache.enabled:true}") boolean enabled,
+                        @Value("${product.cache.max-size:100000}") long maxSize,
+                        @Value("${product.cache.ttl:5m}") Duration ttl,
+                        @Autowired MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "products");
+    }
+
+    /**
+     * @return the cached product if it is loaded, without triggering or waiting for a load
+     */
+    public Optional<Product> peek(String productId) {
+        CompletableFuture<Product> cached = enabled ? cache.getIfPresent(productId) : null;
+        if (cached == null || !cached.isDone() || cached.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cached.getNow(null));
+    }
+
+    public Mono<Product> get(String productId, Function<String, Mono<Product>> loader) {
+        if (!enabled) {
+            return loader.apply(productId);
+        }
+        // suppressCancel: one subscriber cancelling must not cancel the load shared with others
+        return Mono.fromFuture(
+                () -> cache.get(productId, (key, executor) -> loader.apply(key).toFuture()),
+                true
+        );
+    }
+
+    public void invalidate(String productId) {
+        cache.synchronous().invalidate(productId);
+    }
+
+    @Override
+    public void onUpsert(Product product) {
+        invalidate(product.getProductId());
+    }
+
+    @Override
+    public void onDelete(String id, String productId) {
+        if (productId != null) {
+            invalidate(productId);
+        } else {
+            cache.synchronous().invalidateAll();                 // key unknown, rare
+        }
+    }
+
+    @Override
+    public void onReset() {
+        cache.synchronous().invalidateAll();
+    }
+}
@@ -0,0 +1,242 @@
+package com.brajesh.catalog.domain.product.services;
+
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.mongodb.MongoException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.mongodb.client.model.changestream.OperationType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Keeps local read structures in step with writes made by other instances
+ * ({@code product.change-stream.enabled}, requires a replica set). The products collection
+ * change stream is applied to every {@link ProductWriteListener}; writes made by this
+ * instance arrive a second time, which is harmless.
+ * <ul>
+ *     <li>the resume token of the last applied change is checkpointed with the snapshot file,
+ *     so a restart resumes from it instead of reloading the collection</li>
+ *     <li>connection errors resubscribe from the last applied token with backoff</li>
+ *     <li>when the token has fallen off the oplog, or the collection is dropped, listeners are
+ *     reset and the stream restarts from the cluster time taken just before the reset</li>
+ * </ul>
+ */
+@Service
+public class ProductChangeStreamService {
+
+    private static final Logger logger = getLogger(ProductChangeStreamService.class);
+
+    private static final Set<Integer> HISTORY_LOST = Set.of(280, 286);    // ChangeStreamFatalError, ChangeStreamHistoryLost
+    private static final Set<OperationType> RESET = Set.of(
+            OperationType.DROP, OperationType.RENAME, OperationType.DROP_DATABASE, OperationType.INVALIDATE);
+    private static final Duration MIN_REPEAT_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAX_REPEAT_DELAY = Duration.ofSeconds(30);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final ProductSnapshotService snapshotService;
+    private final List<ProductWriteListener> writeListeners;
+    private final MeterRegistry meterRegistry;
+
+    private final Disposable.Composite subscriptions = Disposables.composite();
+    private final AtomicBoolean progressed = new AtomicBoolean();
+    private volatile BsonValue resumeToken;
+
+    @Value("${product.change-stream.enabled:false}")
+    private boolean enabled;
+
+    @Value("${product.change-stream.checkpoint-interval:60s}")
+    private Duration checkpointInterval;
+
+    public ProductChangeStreamService(@Autowired ReactiveMongoTemplate mongoTemplate,
+                                      @Autowired ProductSnapshotService snapshotService,
+                                      @Autowired List<ProductWriteListener> writeListeners,
+                                      @Autowired MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.snapshotService = snapshotService;
+        this.writeListeners = writeListeners;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        resumeToken = snapshotService.restore().orElse(null);
+
+        subscriptions.add(Flux.defer(this::watch)
+                .doOnNext(this::applySafely)
+                .repeatWhen(this::repeatWithBackoff)                        // restart after invalidate / history lost
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> logger.warn("Product change stream failed, resuming: {}",
+                                signal.failure().toString())))
+                .subscribe());
+
+        subscriptions.add(Flux.interval(checkpointInterval, checkpointInterval, Schedulers.boundedElastic())
+                .onBackpressureDrop()
+                .subscribe(tick -> snapshotService.checkpoint(resumeToken)));
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscriptions.dispose();
+        snapshotService.checkpoint(resumeToken);
+    }
+
+    private Flux<ChangeStreamEvent<Product>> watch() {
+
+        BsonValue token = resumeToken;
+        Mono<ChangeStreamOptions> options = token != null
+                ? Mono.just(options().resumeAfter(token).build())
+                : resync().map(clusterTime -> options().resumeAt(clusterTime).build());
+
+        return options
+                .flatMapMany(o -> mongoTemplate.changeStream(mongoTemplate.getCollectionName(Product.class), o, Product.class))
+                .onErrorResume(ProductChangeStreamService::isHistoryLost, e -> {
+                    logger.warn("Product change stream cannot resume from its token, resetting local state");
+                    resumeToken = null;
+                    return Flux.empty();
+                });
+    }
+
+    /**
+     * Takes the current cluster time before resetting the listeners; the new stream starts
+     * at that time, so no write is lost between the reload and the first event.
+     */
+    private Mono<BsonTimestamp> resync() {
+
+        return mongoTemplate.executeCommand("{ ping: 1 }")
+                .mapNotNull(reply -> reply.get("operationTime", BsonTimestamp.class))
+                .switchIfEmpty(Mono.error(new IllegalStateException("Change streams require a replica set")))
+                .doOnNext(clusterTime -> writeListeners.forEach(ProductWriteListener::onReset));
+    }
+
+    /**
+     * A listener failure skips that event for the failing listener only; the stream keeps going
+     * and the resume token still advances, so one bad event cannot stall every other listener.
+     */
+    private void applySafely(ChangeStreamEvent<Product> event) {
+        progressed.set(true);
+        try {
+            apply(event);
+        } catch (RuntimeException e) {
+            logger.error("Failed to apply product change {}", event.getOperationType(), e);
+            resumeToken = event.getResumeToken();
+            meterRegistry.counter("product.change-stream.failures").increment();
+        }
+    }
+
+    private void apply(ChangeStreamEvent<Product> event) {
+
+        OperationType type = event.getOperationType();
+        if (type == null) {
+            return;
+        }
+        if (RESET.contains(type)) {
+            resumeToken = null;                                             // stream ends, repeat() resyncs
+            return;
+        }
+        switch (type) {
+            case INSERT, UPDATE, REPLACE -> {
+                Product product = event.getBody();                          // null when deleted since
+                if (product != null) {
+                    writeListeners.forEach(listener -> listener.onUpsert(product));
+                }
+            }
+            case DELETE -> {
+                String id = documentId(event.getRaw());
+                String productId = productIdBeforeChange(event.getRaw());
+                writeListeners.forEach(listener -> listener.onDelete(id, productId));
+            }
+            default -> {
+            }
+        }
+        resumeToken = event.getResumeToken();
+        Counter.builder("product.change-stream.events")
+                .tag("operation", type.getValue())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Waits 1s before restarting a stream that delivered events, doubling up to 30s while
+     * streams keep ending without any, so an immediately completing stream does not spin.
+     */
+    private Flux<Long> repeatWithBackoff(Flux<Long> completions) {
+
+        AtomicInteger idleRepeats = new AtomicInteger();
+        return completions.concatMap(completed -> {
+            if (progressed.getAndSet(false)) {
+                idleRepeats.set(0);
+            }
+            int idle = idleRepeats.getAndIncrement();
+            Duration delay = MIN_REPEAT_DELAY.multipliedBy(1L << Math.min(idle, 5));
+            return Mono.delay(delay.compareTo(MAX_REPEAT_DELAY) > 0 ? MAX_REPEAT_DELAY : delay);
+        });
+    }
+
+    private static ChangeStreamOptions.ChangeStreamOptionsBuilder options() {
+
+        return ChangeStreamOptions.builder()
+                .fullDocumentLookup(FullDocument.UPDATE_LOOKUP)
+                .fullDocumentBeforeChangeLookup(FullDocumentBeforeChange.WHEN_AVAILABLE);
+    }
+
+    private static String documentId(ChangeStreamDocument<Document> raw) {
+
+        BsonValue id = raw == null || raw.getDocumentKey() == null ? null : raw.getDocumentKey().get("_id");
+        if (id == null) {
+            return null;
+        }
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.isString() ? id.asString().getValue() : id.toString();
+    }
+
+    /**
+     * Only available when pre-images are enabled on the collection; otherwise listeners
+     * resolve the productId from the {@code _id} themselves.
+     */
+    private static String productIdBeforeChange(ChangeStreamDocument<Document> raw) {
+
+        Document before = raw == null ? null : raw.getFullDocumentBeforeChange();
+        return before == null ? null : before.getString("productId");
+    }
+
+    private static boolean isHistoryLost(Throwable e) {
+
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException && HISTORY_LOST.contains(mongoException.getCode())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,297 @@
+package com.brajesh.catalog.domain.product.services;
+
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.brajesh.catalog.domain.product.model.enumeration.ExportFormat;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Full-catalog export. Raw documents are read off the cursor in productId order and
+ * encoded batch by batch straight into buffers from the response's {@link DataBufferFactory}
+ * (pooled on Netty), without materializing entities, DTOs or intermediate strings. Because
+ * rows are ordered by the unique productId, the last productId a client received is a valid
+ * resume token for a broken download.
+ */
+@Service
+public class ProductExportService {
+
+    private static final String[] FIELDS = {"productId", "title", "brand", "manufacturer", "price"};
+    private static final String CSV_HEADER = String.join(",", FIELDS) + "\n";
+    private static final byte[][] JSON_KEYS = jsonKeys();
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Value("${product.export.batch-size:1000}")
+    private int batchSize;
+
+    public ProductExportService(@Autowired ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public Flux<DataBuffer> export(ExportFormat format, boolean gzip, String resumeToken, DataBufferFactory bufferFactory) {
+
+        Bson filter = resumeToken == null || resumeToken.isBlank()
+                ? Filters.empty()
+                : Filters.gt("productId", resumeToken);
+
+        Flux<DataBuffer> chunks = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Product.class))
+                .flatMapMany(collection -> collection.find(filter)
+                        .projection(Projections.fields(Projections.include(FIELDS), Projections.excludeId()))
+                        .sort(Sorts.ascending("productId"))
+                        .batchSize(batchSize))
+                .buffer(batchSize)
+                .map(rows -> encode(rows, format, bufferFactory));
+        if (format == ExportFormat.CSV && (resumeToken == null || resumeToken.isBlank())) {
+            chunks = chunks.startWith(Flux.defer(() -> Flux.just(
+                    bufferFactory.allocateBuffer(CSV_HEADER.length()).write(CSV_HEADER, StandardCharsets.UTF_8))));
+        }
+
+        if (!gzip) {
+            return chunks.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+        }
+        Flux<DataBuffer> rows = chunks;
+        return Flux.using(
+                        GzipFrameEncoder::new,
+                        encoder -> rows
+                                .map(chunk -> encoder.encode(chunk, bufferFactory))
+                                .concatWith(Flux.defer(() -> Flux.just(encoder.finish(bufferFactory)))),
+                        GzipFrameEncoder::close)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * Writes a batch of rows straight into one buffer from the response's factory; strings are
+     * encoded to UTF-8 in place, with no intermediate String or byte array per batch.
+     */
+    private static DataBuffer encode(List<Document> rows, ExportFormat format, DataBufferFactory bufferFactory) {
+
+        DataBuffer out = bufferFactory.allocateBuffer(rows.size() * 160);
+        try {
+            for (Document row : rows) {
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(out, row);
+                } else {
+                    writeJsonRow(out, row);
+                }
+            }
+            return out;
+        } catch (RuntimeException e) {
+            DataBufferUtils.release(out);
+            throw e;
+        }
+    }
+
+    private static void writeJsonRow(DataBuffer out, Document row) {
+
+        out.write((byte) '{');
+        for (int i = 0; i < FIELDS.length; i++) {
+            if (i > 0) {
+                out.write((byte) ',');
+            }
+            out.write(JSON_KEYS[i]);
+            if ("price".equals(FIELDS[i])) {
+                String price = toPlainPrice(row.get("price"));
+                writeAscii(out, price == null ? "null" : price);
+            } else {
+                writeJsonString(out, row.getString(FIELDS[i]));
+            }
+        }
+        out.write((byte) '}', (byte) '\n');
+    }
+
+    private static void writeCsvRow(DataBuffer out, Document row) {
+
+        for (int i = 0; i < FIELDS.length; i++) {
+            if (i > 0) {
+                out.write((byte) ',');
+            }
+            String value = "price".equals(FIELDS[i]) ? toPlainPrice(row.get("price")) : row.getString(FIELDS[i]);
+            writeCsvField(out, value);
+        }
+        out.write((byte) '\n');
+    }
+
+    /**
+     * Unescaped runs are encoded straight from the string through a {@link CharBuffer} view.
+     */
+    private static void writeJsonString(DataBuffer out, String value) {
+
+        if (value == null) {
+            writeAscii(out, "null");
+            return;
+        }
+        out.write((byte) '"');
+        int run = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escape = switch (c) {
+                case '"' -> "\\\"";
+                case '\\' -> "\\\\";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\t' -> "\\t";
+                default -> c < 0x20 ? "\\u%04x".formatted((int) c) : null;
+            };
+            if (escape != null) {
+                writeUtf8(out, value, run, i);
+                writeAscii(out, escape);
+                run = i + 1;
+            }
+        }
+        writeUtf8(out, value, run, value.length());
+        out.write((byte) '"');
+    }
+
+    private static void writeCsvField(DataBuffer out, String value) {
+
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writeUtf8(out, value, 0, value.length());
+            return;
+        }
+        out.write((byte) '"');
+        int run = 0;
+        for (int i = value.indexOf('"'); i >= 0; i = value.indexOf('"', i + 1)) {
+            writeUtf8(out, value, run, i + 1);                 // doubles the quote: written here and again as run start
+            run = i;
+        }
+        writeUtf8(out, value, run, value.length());
+        out.write((byte) '"');
+    }
+
+    private static void writeUtf8(DataBuffer out, String value, int from, int to) {
+
+        if (from < to) {
+            out.write(CharBuffer.wrap(value, from, to), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void writeAscii(DataBuffer out, String value) {
+
+        out.write(value, StandardCharsets.US_ASCII);
+    }
+
+    private static byte[][] jsonKeys() {
+
+        byte[][] keys = new byte[FIELDS.length][];
+        for (int i = 0; i < FIELDS.length; i++) {
+            keys[i] = ('"' + FIELDS[i] + "\":").getBytes(StandardCharsets.US_ASCII);
+        }
+        return keys;
+    }
+
+    /**
+     * Prices may be stored as Decimal128, as a string (Spring Data's default BigDecimal mapping)
+     * or as a double for hand-loaded documents.
+     */
+    private static String toPlainPrice(Object price) {
+
+        return switch (price) {
+            case null -> null;
+            case Decimal128 decimal -> decimal.bigDecimalValue().toPlainString();
+            case BigDecimal decimal -> decimal.toPlainString();
+            case Number number -> new BigDecimal(number.toString()).toPlainString();
+            default -> new BigDecimal(price.toString()).toPlainString();
+        };
+    }
+
+    /**
+     * Incremental gzip member writer: header on the first chunk, raw deflate per chunk and
+     * CRC32/ISIZE trailer on finish, so compressed output is produced as the cursor advances.
+     * Input is deflated from the row buffer's own memory and output deflated straight into the
+     * writable memory of the result buffer.
+     */
+    private static final class GzipFrameEncoder {
+
+        private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+        private static final int MIN_WRITABLE = 8 * 1024;
+
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private final CRC32 crc = new CRC32();
+        private boolean headerWritten;
+
+        /**
+         * Consumes and releases {@code input}.
+         */
+        DataBuffer encode(DataBuffer input, DataBufferFactory bufferFactory) {
+            DataBuffer buffer = bufferFactory.allocateBuffer(input.readableByteCount() / 4 + HEADER.length);
+            try (DataBuffer.ByteBufferIterator chunks = input.readableByteBuffers()) {
+                writeHeader(buffer);
+                while (chunks.hasNext()) {
+                    ByteBuffer chunk = chunks.next();
+                    crc.update(chunk.duplicate());
+                    deflater.setInput(chunk);
+                    while (!deflater.needsInput()) {
+                        drain(buffer);
+                    }
+                }
+                return buffer;
+            } catch (RuntimeException e) {
+                DataBufferUtils.release(buffer);
+                throw e;
+            } finally {
+                DataBufferUtils.release(input);
+            }
+        }
+
+        DataBuffer finish(DataBufferFactory bufferFactory) {
+            DataBuffer buffer = bufferFactory.allocateBuffer(256);
+            writeHeader(buffer);
+            deflater.finish();
+            while (!deflater.finished()) {
+                drain(buffer);
+            }
+            writeIntLe(buffer, (int) crc.getValue());
+            writeIntLe(buffer, (int) deflater.getBytesRead());
+            return buffer;
+        }
+
+        void close() {
+            deflater.end();
+        }
+
+        private void writeHeader(DataBuffer buffer) {
+            if (!headerWritten) {
+                buffer.write(HEADER);
+                headerWritten = true;
+            }
+        }
+
+        private void drain(DataBuffer buffer) {
+            buffer.ensureWritable(MIN_WRITABLE);
+            int length;
+            try (DataBuffer.ByteBufferIterator writable = buffer.writableByteBuffers()) {
+                length = deflater.deflate(writable.next());
+            }
+            buffer.writePosition(buffer.writePosition() + length);
+        }
+
+        private static void writeIntLe(DataBuffer buffer, int value) {
+            buffer.write((byte) value, (byte) (value >>> 8), (byte) (value >>> 16), (byte) (value >>> 24));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.brajesh.catalog.domain.product.services;
+
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.brajesh.catalog.domain.product.model.enumeration.ProductStatsGroup;
+import com.brajesh.catalog.domain.product.model.api.responseDto.PriceBucketDto;
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductGroupStatsDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.brajesh.catalog.domain.product.utils.MetricsUtils.timedFlux;
+
+/**
+ * Reporting aggregates computed inside Mongo, so only one row per group or bucket crosses the
+ * wire. Each pipeline reads only the group field and price, which the
+ * {@code brand_price}, {@code manufacturer_price} and {@code price} indexes cover.
+ * Results come straight off the aggregation cursor.
+ */
+@Service
+public class ProductReportService {
+
+    private static final String OUT_OF_RANGE = "outOfRange";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.report.max-time:30s}")
+    private Duration maxTime;
+
+    public ProductReportService(@Autowired ReactiveMongoTemplate mongoTemplate,
+                                @Autowired MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Count and min / max / average price per brand or manufacturer, in group value order.
+     */
+    public Flux<ProductGroupStatsDto> groupStats(ProductStatsGroup group) {
+
+        String field = "$" + group.getField();
+        Document accumulators = new Document("_id", field)
+                .append("count", new Document("$sum", 1))
+                .append("pricedCount", new Document("$sum",
+                        new Document("$cond", List.of(new Document("$gt", List.of("$price", null)), 1, 0))))
+                .append("minPrice", new Document("$min", "$price"))
+                .append("maxPrice", new Document("$max", "$price"))
+                .append("avgPrice", new Document("$avg", "$price"));
+
+        return aggregate(List.of(
+                stage("$sort", new Document(group.getField(), 1)),             // walk the compound index
+                stage("$group", accumulators),
+                stage("$sort", new Document("_id", 1))))
+                .map(row -> ProductGroupStatsDto.builder()
+                        .value(row.getString("_id"))
+                        .count(((Number) row.get("count")).longValue())
+                        .pricedCount(((Number) row.get("pricedCount")).longValue())
+                        .minPrice(toBigDecimal(row.get("minPrice")))
+                        .maxPrice(toBigDecimal(row.get("maxPrice")))
+                        .avgPrice(toBigDecimal(row.get("avgPrice")))
+                        .build())
+                .transform(timedFlux(meterRegistry, "groupStats"));
+    }
+
+    /**
+     * Price histogram over explicit boundaries ({@code $bucket}); products priced outside them
+     * are counted in one out-of-range bucket. Optionally restricted to one brand or manufacturer.
+     */
+    public Flux<PriceBucketDto> priceHistogram(List<BigDecimal> boundaries, String brand, String manufacturer) {
+
+        List<Decimal128> bounds = boundaries.stream().map(Decimal128::new).toList();
+        Document bucket = new Document("groupBy", "$price")
+                .append("boundaries", bounds)
+                .append("default", OUT_OF_RANGE)
+                .append("output", bucketOutput());
+
+        return aggregate(List.of(stage("$match", pricedMatch(brand, manufacturer)), stage("$bucket", bucket)))
+                .map(row -> {
+                    Object lower = row.get("_id");
+                    if (OUT_OF_RANGE.equals(lower)) {
+                        return toBucket(row, null, null);
+                    }
+                    BigDecimal lowerBound = toBigDecimal(lower);
+                    return toBucket(row, lowerBound, upperBoundOf(boundaries, lowerBound));
+                })
+                .transform(timedFlux(meterRegistry, "priceHistogram"));
+    }
+
+    /**
+     * Histogram with {@code buckets} buckets of roughly equal population ({@code $bucketAuto}).
+     */
+    public Flux<PriceBucketDto> priceHistogram(int buckets, String brand, String manufacturer) {
+
+        Document bucketAuto = new Document("groupBy", "$price")
+                .append("buckets", buckets)
+                .append("output", bucketOutput());
+
+        return aggregate(List.of(stage("$match", pricedMatch(brand, manufacturer)), stage("$bucketAuto", bucketAuto)))
+                .map(row -> {
+                    Document range = row.get("_id", Document.class);
+                    return toBucket(row, toBigDecimal(range.get("min")), toBigDecimal(range.get("max")));
+                })
+                .transform(timedFlux(meterRegistry, "priceHistogram"));
+    }
+
+    private Flux<Document> aggregate(List<AggregationOperation> stages) {
+
+        Aggregation aggregation = Aggregation.newAggregation(stages)
+                .withOptions(AggregationOptions.builder().maxTime(maxTime).build());
+        return mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(Product.class), Document.class);
+    }
+
+    private static Document pricedMatch(String brand, String manufacturer) {
+
+        List<Document> clauses = new ArrayList<>(3);
+        if (brand != null) {
+            clauses.add(new Document("brand", brand));
+        }
+        if (manufacturer != null) {
+            clauses.add(new Document("manufacturer", manufacturer));
+        }
+        clauses.add(new Document("price", new Document("$type", "number")));   // skips products without a price
+        return clauses.size() == 1 ? clauses.getFirst() : new Document("$and", clauses);
+    }
+
+    private static BigDecimal upperBoundOf(List<BigDecimal> boundaries, BigDecimal lowerBound) {
+
+        for (int i = 0; i < boundaries.size() - 1; i++) {
+            if (boundaries.get(i).compareTo(lowerBound) == 0) {
+                return boundaries.get(i + 1);
+            }
+        }
+        return null;
+    }
+
+    private static Document bucketOutput() {
+
+        return new Document("count", new Document("$sum", 1))
+                .append("avgPrice", new Document("$avg", "$price"));
+    }
+
+    private static PriceBucketDto toBucket(Document row, BigDecimal lowerBound, BigDecimal upperBound) {
+
+        return PriceBucketDto.builder()
+                .lowerBound(lowerBound)
+                .upperBound(upperBound)
+                .count(((Number) row.get("count")).longValue())
+                .avgPrice(toBigDecimal(row.get("avgPrice")))
+                .build();
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+
+        return switch (value) {
+            case null -> null;
+            case Decimal128 decimal -> decimal.bigDecimalValue();
+            case BigDecimal decimal -> decimal;
+            case Number number -> new BigDecimal(number.toString());
+            case String text -> new BigDecimal(text);
+            default -> null;
+        };
+    }
+
+    private static AggregationOperation stage(String operator, Document body) {
+
+        return context -> new Document(operator, body);
+    }
+}
@@ -0,0 +1,171 @@
+package com.brajesh.catalog.domain.product.services;
+
+import com.brajesh.catalog.domain.product.exception.ProductException;
+import com.brajesh.catalog.domain.product.model.api.requestDto.ProductSearchRequestDto;
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.brajesh.catalog.domain.product.model.search.ProductSearchResult;
+import com.brajesh.catalog.domain.product.utils.SearchTokenUtils;
+import com.mongodb.MongoExecutionTimeoutException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.brajesh.catalog.domain.product.exception.ProductDetailsException.SB_PL_SERVICE_UNAVAILABLE;
+import static com.brajesh.catalog.domain.product.utils.MetricsUtils.timedMono;
+
+/**
+ * Product search as one aggregation: a {@code $match} built from the filters, then a
+ * {@code $facet} that returns the requested page, the total hit count and the brand and
+ * manufacturer counts together.
+ * <ul>
+ *     <li>{@code q} uses the text index on title, brand and manufacturer, ranked by text score</li>
+ *     <li>{@code prefix} matches complete words exactly and the last word as an anchored regex on
+ *     the multikey {@code searchTokens} index, which stays an index range scan</li>
+ *     <li>every query runs with {@code maxTimeMS}; typeahead callers should pass {@code facets=false}</li>
+ * </ul>
+ */
+@Service
+public class ProductSearchService {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.search.facet-limit:20}")
+    private int facetLimit;
+
+    @Value("${product.search.max-time:500ms}")
+    private Duration maxTime;
+
+    public ProductSearchService(@Autowired ReactiveMongoTemplate mongoTemplate,
+                                @Autowired MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Mono<ProductSearchResult> search(ProductSearchRequestDto request) {
+
+        boolean textSearch = request.getQ() != null;
+        Document facets = new Document("items", List.of(
+                new Document("$sort", textSearch
+                        ? new Document("score", new Document("$meta", "textScore")).append("_id", 1)
+                        : new Document("_id", 1)),
+                new Document("$skip", (long) request.getPage() * request.getSize()),
+                new Document("$limit", request.getSize())))
+                .append("total", List.of(new Document("$count", "count")));
+        if (request.isFacets()) {
+            facets.append("brands", countBy("$brand"))
+                    .append("manufacturers", countBy("$manufacturer"));
+        }
+
+        List<AggregationOperation> stages = List.of(
+                stage("$match", match(request)),
+                stage("$facet", facets));
+        Aggregation aggregation = Aggregation.newAggregation(stages)
+                .withOptions(AggregationOptions.builder().maxTime(maxTime).build());
+
+        return mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(Product.class), Document.class)
+                .next()
+                .map(this::toResult)
+                .onErrorMap(ProductSearchService::isTimeout, e -> new ProductException(SB_PL_SERVICE_UNAVAILABLE))
+                .transform(timedMono(meterRegistry, textSearch ? "searchText" : "searchFilter"));
+    }
+
+    private static Document match(ProductSearchRequestDto request) {
+
+        List<Document> clauses = new ArrayList<>();
+        if (request.getQ() != null) {
+            clauses.add(new Document("$text", new Document("$search", request.getQ())));
+        }
+        if (request.getPrefix() != null) {
+            List<String> words = SearchTokenUtils.split(request.getPrefix());
+            if (words.isEmpty()) {
+                clauses.add(new Document("_id", new Document("$exists", false)));    // punctuation only: no hits
+            } else {
+                String partial = words.getLast();                   // letters and digits only, no escaping needed
+                if (words.size() > 1) {
+                    clauses.add(new Document("searchTokens", new Document("$all", words.subList(0, words.size() - 1))));
+                }
+                clauses.add(new Document("searchTokens", new Document("$regex", "^" + partial)));
+            }
+        }
+        if (request.getBrand() != null) {
+            clauses.add(new Document("brand", request.getBrand()));
+        }
+        if (request.getManufacturer() != null) {
+            clauses.add(new Document("manufacturer", request.getManufacturer()));
+        }
+        if (request.getMinPrice() != null || request.getMaxPrice() != null) {
+            Document range = new Document();
+            if (request.getMinPrice() != null) {
+                range.append("$gte", new Decimal128(request.getMinPrice()));
+            }
+            if (request.getMaxPrice() != null) {
+                range.append("$lte", new Decimal128(request.getMaxPrice()));
+            }
+            clauses.add(new Document("price", range));
+        }
+        return switch (clauses.size()) {
+            case 0 -> new Document();
+            case 1 -> clauses.getFirst();
+            default -> new Document("$and", clauses);
+        };
+    }
+
+    private List<Document> countBy(String field) {
+
+        return List.of(
+                new Document("$match", new Document(field.substring(1), new Document("$ne", null))),
+                new Document("$sortByCount", field),
+                new Document("$limit", facetLimit));
+    }
+
+    private ProductSearchResult toResult(Document facets) {
+
+        List<Product> items = facets.getList("items", Document.class).stream()
+                .map(document -> mongoTemplate.getConverter().read(Product.class, document))
+                .toList();
+        List<Document> total = facets.getList("total", Document.class);
+        return ProductSearchResult.builder()
+                .items(items)
+                .total(total.isEmpty() ? 0 : ((Number) total.getFirst().get("count")).longValue())
+                .brandCounts(toCounts(facets.getList("brands", Document.class, List.of())))
+                .manufacturerCounts(toCounts(facets.getList("manufacturers", Document.class, List.of())))
+                .build();
+    }
+
+    private static Map<String, Long> toCounts(List<Document> buckets) {
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        buckets.forEach(bucket -> counts.put(bucket.getString("_id"), ((Number) bucket.get("count")).longValue()));
+        return counts;
+    }
+
+    private static AggregationOperation stage(String operator, Document body) {
+
+        return context -> new Document(operator, body);
+    }
+
+    private static boolean isTimeout(Throwable e) {
+
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoExecutionTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,58 +1,48 @@
 package com.brajesh.catalog.domain.product.services;
 
-import com.brajesh.catalog.domain.product.exception.ProductDetailsException;
-import com.brajesh.catalog.domain.product.exception.ProductException;
 import com.brajesh.catalog.domain.product.model.entity.Product;
-import com.brajesh.catalog.domain.product.repository.ProductRepository;
-import com.brajesh.catalog.domain.product.utils.QueryUtils;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
-import org.springframework.stereotype.Service;
-
+import com.brajesh.catalog.domain.product.model.sync.SyncPosition;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
-import static com.brajesh.catalog.domain.product.exception.ProductDetailsException.INVALID_PRODUCT_ID;
-
-
-@Service
-public class ProductService {
-    @Autowired
-    private ReactiveMongoTemplate mongoTemplate;
-
-
-    private final ProductRepository productRepository;
-
-    public ProductService(@Autowired ProductRepository productRepository) {
-        this.productRepository = productRepository;
-    }
-
-    public Mono<Product> createProductService(Product product) {
+/**
+ * Product reads and writes behind {@code ProductResource}. One implementation is active,
+ * chosen by {@code product.runtime.mode}: {@link ReactiveProductService} (default) or
+ * {@link VirtualThreadProductService}.
+ */
+public interface ProductService {
 
-        return productRepository.save(product);
-    }
+    Mono<Product> createProductService(Product product);
 
-    public Flux<Product> createBulkProductService(List<Product> productList){
+    Flux<Product> createBulkProductService(List<Product> productList);
 
-        return productRepository.saveAll(productList);
-    }
+    Flux<Product> listOfAllProduct();
 
-    public Flux<Product> listOfAllProduct(){
-        return productRepository.findAll();
-    }
+    Flux<Product> streamAllProduct();
 
-    public Mono<Product> getProduct(String productId) {
+    Flux<Product> listProductPage(String afterId, int limit, Set<String> fields);
 
-        return Mono.just(productId)
-                .map(QueryUtils::findByProductID)
-                .flatMap(q -> mongoTemplate.findOne(q, Product.class))
-                .switchIfEmpty(Mono.error(new ProductException(INVALID_PRODUCT_ID)));
-    }
+    /**
+     * @param after position of the last change the consumer applied, or null to start from the oldest
+     * @param limit maximum number of products, or 0 to stream every change
+     */
+    Flux<Product> listChangesSince(SyncPosition after, int limit);
 
+    Mono<Product> getProduct(String productId);
 
+    /**
+     * A product carrying at least productId, contentHash and lastModified.
+     */
+    Mono<Product> getProductValidators(String productId);
 
+    Mono<String> getListingEtag();
 
+    /**
+     * Products found, keyed by productId; unknown ids are absent.
+     */
+    Mono<Map<String, Product>> getProducts(List<String> productIds);
 }
@@ -0,0 +1,284 @@
+package com.brajesh.catalog.domain.product.services;
+
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.brajesh.catalog.domain.product.model.snapshot.ColumnarProductSnapshot;
+import com.brajesh.catalog.domain.product.utils.QueryUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Optional read-serving mode ({@code product.snapshot.enabled}). The collection is loaded once
+ * into a {@link ColumnarProductSnapshot}; later writes land in a small overlay (upserts plus
+ * delete tombstones, keyed by productId) that takes precedence over the snapshot. When the
+ * overlay grows past {@code compaction-threshold} a new snapshot is built off the event loop
+ * and swapped in.
+ * <p>
+ * With {@code product.snapshot.file} set, {@link #checkpoint} writes the compacted snapshot
+ * together with the change stream resume token it is consistent with, and {@link #restore}
+ * reads it back on startup so {@link ProductChangeStreamService} only replays the tail.
+ */
+@Service
+public class ProductSnapshotService implements ProductWriteListener {
+
+    private static final Logger logger = getLogger(ProductSnapshotService.class);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final int compactionThreshold;
+    private final int loadBatchSize;
+    private final boolean followChangeStream;
+    private final Path file;
+
+    private final Map<String, Product> overlay = new ConcurrentHashMap<>();
+    private final Set<String> tombstones = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private volatile ColumnarProductSnapshot snapshot;
+
+    public ProductSnapshotService(@Autowired ReactiveMongoTemplate mongoTemplate,
+                                  @Autowired MeterRegistry meterRegistry,
+                                  @Value("${product.snapshot.enabled:false}") boolean enabled,
+                                  @Value("${product.snapshot.compaction-threshold:10000}") int compactionThreshold,
+                                  @Value("${product.stream.cursor-batch-size:500}") int loadBatchSize,
+                                  @Value("${product.change-stream.enabled:false}") boolean followChangeStream,
+                                  @Value("${product.snapshot.file:}") String file) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.compactionThreshold = compactionThreshold;
+        this.loadBatchSize = loadBatchSize;
+        this.followChangeStream = followChangeStream;
+        this.file = file.isBlank() ? null : Path.of(file);
+
+        Gauge.builder("product.snapshot.rows", this, service -> service.snapshot == null ? 0 : service.snapshot.size())
+                .register(meterRegistry);
+        Gauge.builder("product.snapshot.overlay", overlay, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("product.snapshot.bytes", this, service -> service.snapshot == null ? 0 : service.snapshot.estimatedBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Without a change stream the snapshot is loaded once at startup; with one,
+     * {@link ProductChangeStreamService} decides between {@link #restore} and {@link #onReset}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled || followChangeStream) {
+            return;
+        }
+        reload();
+    }
+
+    /**
+     * @return the resume token stored with the snapshot file, if one was restored
+     */
+    public Optional<BsonValue> restore() {
+        if (!enabled || file == null || !Files.exists(file)) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            BsonDocument resumeToken = BsonDocument.parse(in.readUTF());
+            ColumnarProductSnapshot restored = ColumnarProductSnapshot.readFrom(in);
+            snapshot = restored;
+            logger.info("Product snapshot restored from {}: {} rows in {} ms", file, restored.size(),
+                    Duration.ofNanos(System.nanoTime() - start).toMillis());
+            return Optional.of(resumeToken);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Product snapshot file {} unreadable, reloading from MongoDB", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Compacts and writes the snapshot file. The caller passes the resume token of the last
+     * change applied, so the file holds at least every change up to it; replaying later
+     * changes on restore is harmless because upserts and deletes are idempotent.
+     * Runs blocking IO, call it off the event loop.
+     */
+    public void checkpoint(BsonValue resumeToken) {
+        if (!enabled || file == null || resumeToken == null || snapshot == null
+                || !compacting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            compact();
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeUTF(resumeToken.asDocument().toJson());
+                snapshot.writeTo(out);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Product snapshot checkpoint written to {}", file);
+        } catch (IOException e) {
+            logger.warn("Product snapshot checkpoint to {} failed", file, e);
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    private void reload() {
+        long start = System.nanoTime();
+        mongoTemplate.find(QueryUtils.findAll(loadBatchSize), Product.class)
+                .reduce(ColumnarProductSnapshot.builder(), ColumnarProductSnapshot.Builder::add)
+                .map(ColumnarProductSnapshot.Builder::build)
+                .subscribe(
+                        loaded -> {
+                            snapshot = loaded;
+                            logger.info("Product snapshot loaded: {} rows, ~{} KB in {} ms", loaded.size(),
+                                    loaded.estimatedBytes() / 1024, Duration.ofNanos(System.nanoTime() - start).toMillis());
+                        },
+                        e -> logger.error("Product snapshot load failed, serving from MongoDB", e)
+                );
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    public Optional<Product> find(String productId) {
+        if (tombstones.contains(productId)) {
+            return Optional.empty();
+        }
+        Product updated = overlay.get(productId);
+        if (updated != null) {
+            return Optional.of(updated);
+        }
+        ColumnarProductSnapshot current = snapshot;
+        int row = current.rowOf(productId);
+        return row < 0 ? Optional.empty() : Optional.of(current.get(row));
+    }
+
+    public Flux<Product> findAll() {
+        return Flux.defer(() -> {
+            ColumnarProductSnapshot current = snapshot;
+            return Flux.range(0, current.size())
+                    .filter(row -> {
+                        String productId = current.productIdAt(row);
+                        return !overlay.containsKey(productId) && !tombstones.contains(productId);
+                    })
+                    .map(current::get)
+                    .concatWith(Flux.fromIterable(overlay.values()));
+        });
+    }
+
+    @Override
+    public void onUpsert(Product product) {
+        if (!enabled) {
+            return;
+        }
+        tombstones.remove(product.getProductId());
+        overlay.put(product.getProductId(), product);
+        compactIfNeeded();
+    }
+
+    @Override
+    public void onDelete(String id, String productId) {
+        if (!enabled) {
+            return;
+        }
+        String deleted = productId != null ? productId : productIdOf(id);
+        if (deleted != null) {
+            overlay.remove(deleted);
+            tombstones.add(deleted);
+            compactIfNeeded();
+        }
+    }
+
+    /**
+     * Drops local changes and reloads; the change stream is restarted from a point in time
+     * before this call, so anything written while the load runs still lands in the overlay.
+     */
+    @Override
+    public void onReset() {
+        if (!enabled) {
+            return;
+        }
+        overlay.clear();
+        tombstones.clear();
+        reload();
+    }
+
+    private String productIdOf(String id) {
+        if (id == null) {
+            return null;
+        }
+        for (Product product : overlay.values()) {
+            if (id.equals(product.getId())) {
+                return product.getProductId();
+            }
+        }
+        ColumnarProductSnapshot current = snapshot;
+        int row = current == null ? -1 : current.rowOfId(id);
+        return row < 0 ? null : current.productIdAt(row);
+    }
+
+    private void compactIfNeeded() {
+        if (snapshot == null || overlay.size() + tombstones.size() < compactionThreshold
+                || !compacting.compareAndSet(false, true)) {
+            return;
+        }
+        Mono.fromRunnable(this::compact)
+                .subscribeOn(Schedulers.boundedElastic())
+                .doFinally(signal -> compacting.set(false))
+                .subscribe(null, e -> logger.error("Product snapshot compaction failed", e));
+    }
+
+    /**
+     * Merges the overlay into a new snapshot. Overlay entries are removed only if they were
+     * not replaced while the merge ran, so concurrent writes are never lost.
+     */
+    private void compact() {
+        long start = System.nanoTime();
+        ColumnarProductSnapshot current = snapshot;
+        if (overlay.isEmpty() && tombstones.isEmpty()) {
+            return;
+        }
+        Map<String, Product> merged = Map.copyOf(overlay);
+        Set<String> deleted = Set.copyOf(tombstones);
+
+        ColumnarProductSnapshot.Builder builder = ColumnarProductSnapshot.builder();
+        for (int row = 0; row < current.size(); row++) {
+            String productId = current.productIdAt(row);
+            if (!merged.containsKey(productId) && !deleted.contains(productId)) {
+                builder.add(current.get(row));
+            }
+        }
+        merged.values().forEach(builder::add);
+        snapshot = builder.build();
+
+        merged.forEach(overlay::remove);
+        tombstones.removeAll(deleted);
+        logger.info("Product snapshot compacted: {} rows in {} ms", snapshot.size(),
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+}
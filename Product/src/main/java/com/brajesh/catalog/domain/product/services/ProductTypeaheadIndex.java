@@ -0,0 +1,249 @@
+package com.brajesh.catalog.domain.product.services;
+
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.brajesh.catalog.domain.product.utils.SearchTokenUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Optional in-process typeahead ({@code product.typeahead.enabled}): a sorted token map over the
+ * normalized words of title, brand and manufacturer, each token pointing at the productIds that
+ * contain it. A prefix lookup is a range scan of the token map, so suggestions never reach Mongo.
+ * <ul>
+ *     <li>memory is bounded by {@code max-products} and by {@code max-postings-per-token}: very
+ *     common words keep only the first products that used them</li>
+ *     <li>lookups scan at most {@code max-scan-tokens} tokens, so short prefixes stay cheap</li>
+ *     <li>built from the collection at startup; writes arrive through {@link ProductWriteListener}</li>
+ * </ul>
+ */
+@Service
+public class ProductTypeaheadIndex implements ProductWriteListener {
+
+    private static final Logger logger = getLogger(ProductTypeaheadIndex.class);
+    private static final Comparator<Entry> BY_TITLE_LENGTH =
+            Comparator.comparingInt(entry -> entry.title() == null ? Integer.MAX_VALUE : entry.title().length());
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    private final NavigableMap<String, Set<String>> postings = new ConcurrentSkipListMap<>();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> writtenDuringBuild = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean building = new AtomicBoolean();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private volatile boolean ready;
+
+    @Value("${product.typeahead.max-products:2000000}")
+    private int maxProducts;
+
+    @Value("${product.typeahead.max-postings-per-token:256}")
+    private int maxPostingsPerToken;
+
+    @Value("${product.typeahead.max-scan-tokens:512}")
+    private int maxScanTokens;
+
+    public ProductTypeaheadIndex(@Autowired ReactiveMongoTemplate mongoTemplate,
+                                 @Autowired MeterRegistry meterRegistry,
+                                 @Value("${product.typeahead.enabled:false}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+
+        Gauge.builder("product.typeahead.tokens", postings, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("product.typeahead.products", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled || !building.compareAndSet(false, true)) {
+            return;                                                 // a pending rebuild runs when the current one ends
+        }
+        rebuildPending.set(false);
+        ready = false;
+        postings.clear();
+        entries.clear();
+        writtenDuringBuild.clear();
+
+        Query query = new Query();
+        query.fields().include("productId").include("title").include("brand").include("manufacturer");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long start = System.nanoTime();
+        mongoTemplate.find(query.cursorBatchSize(1000), Product.class)
+                .filter(product -> !writtenDuringBuild.contains(product.getProductId()))    // a newer write won
+                .doOnNext(this::add)
+                .doFinally(signal -> {
+                    building.set(false);
+                    if (rebuildPending.get()) {
+                        build();
+                    }
+                })
+                .subscribe(
+                        null,
+                        e -> logger.error("Typeahead index build failed, suggestions fall back to MongoDB", e),
+                        () -> {
+                            ready = !rebuildPending.get();                  // stale if reset mid-build
+                            sample.stop(meterRegistry.timer("product.typeahead.build"));
+                            logger.info("Typeahead index built: {} products, {} tokens in {} ms", entries.size(),
+                                    postings.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+                        });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Products with a word starting with the last word of {@code prefix} and containing every
+     * earlier word. Exact word matches rank first, then shorter titles.
+     */
+    public List<Product> suggest(String prefix, int limit) {
+        List<String> words = SearchTokenUtils.split(prefix);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        String partial = words.getLast();
+        List<String> complete = words.subList(0, words.size() - 1);
+
+        Set<String> exact = new LinkedHashSet<>();
+        Set<String> candidates = new LinkedHashSet<>();
+        int scanned = 0;
+        for (Map.Entry<String, Set<String>> token
+                : postings.subMap(partial, true, partial + Character.MAX_VALUE, false).entrySet()) {
+            for (String productId : token.getValue()) {
+                Entry entry = entries.get(productId);
+                if (entry != null && entry.tokens().containsAll(complete)) {
+                    (token.getKey().equals(partial) ? exact : candidates).add(productId);
+                }
+            }
+            if (++scanned >= maxScanTokens || exact.size() + candidates.size() >= limit * 4) {
+                break;
+            }
+        }
+
+        candidates.removeAll(exact);
+        List<Entry> ranked = new ArrayList<>(limit);
+        appendRanked(ranked, exact, limit);
+        appendRanked(ranked, candidates, limit);
+        return ranked.stream()
+                .map(entry -> Product.builder().productId(entry.productId()).title(entry.title()).build())
+                .toList();
+    }
+
+    @Override
+    public void onUpsert(Product product) {
+        if (!enabled) {
+            return;
+        }
+        if (building.get()) {
+            writtenDuringBuild.add(product.getProductId());
+        }
+        remove(product.getProductId());
+        add(product);
+    }
+
+    @Override
+    public void onDelete(String id, String productId) {
+        if (!enabled) {
+            return;
+        }
+        String deleted = productId;
+        if (deleted == null && id != null) {
+            deleted = entries.values().stream()                       // key unknown, rare
+                    .filter(entry -> id.equals(entry.id()))
+                    .map(Entry::productId)
+                    .findFirst()
+                    .orElse(null);
+        }
+        if (deleted != null) {
+            if (building.get()) {
+                writtenDuringBuild.add(deleted);
+            }
+            remove(deleted);
+        }
+    }
+
+    /**
+     * A reset during a build cannot be folded into it, the rows already read may be stale. The
+     * index stops serving and is rebuilt from scratch once the running build ends.
+     */
+    @Override
+    public void onReset() {
+        if (!enabled) {
+            return;
+        }
+        rebuildPending.set(true);
+        ready = false;
+        build();
+    }
+
+    private void appendRanked(List<Entry> ranked, Set<String> productIds, int limit) {
+        productIds.stream()
+                .map(entries::get)
+                .filter(Objects::nonNull)                               // removed since the scan
+                .sorted(BY_TITLE_LENGTH)
+                .limit(limit - ranked.size())
+                .forEach(ranked::add);
+    }
+
+    private void add(Product product) {
+        if (product.getProductId() == null
+                || (entries.size() >= maxProducts && !entries.containsKey(product.getProductId()))) {
+            return;
+        }
+        Entry entry = new Entry(product.getId(), product.getProductId(), product.getTitle(),
+                SearchTokenUtils.tokens(product.getTitle(), product.getBrand(), product.getManufacturer()));
+        entries.put(entry.productId(), entry);
+        for (String token : entry.tokens()) {
+            postings.compute(token, (t, productIds) -> {                // atomic with remove() unmapping an emptied set
+                Set<String> postingList = productIds != null ? productIds : ConcurrentHashMap.newKeySet();
+                if (postingList.size() < maxPostingsPerToken) {
+                    postingList.add(entry.productId());
+                }
+                return postingList;
+            });
+        }
+    }
+
+    private void remove(String productId) {
+        Entry entry = entries.remove(productId);
+        if (entry == null) {
+            return;
+        }
+        for (String token : entry.tokens()) {
+            postings.computeIfPresent(token, (t, productIds) -> {
+                productIds.remove(productId);
+                return productIds.isEmpty() ? null : productIds;
+            });
+        }
+    }
+
+    private record Entry(String id, String productId, String title, List<String> tokens) {
+    }
+}
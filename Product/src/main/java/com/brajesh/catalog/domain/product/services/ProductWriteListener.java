@@ -0,0 +1,25 @@
+package com.brajesh.catalog.domain.product.services;
+
+import com.brajesh.catalog.domain.product.model.entity.Product;
+
+/**
+ * Local read structure (cache, snapshot, ...) that must follow writes to the products
+ * collection. Every save path notifies all listeners after a successful write, and
+ * {@link ProductChangeStreamService} replays writes made by other instances.
+ */
+public interface ProductWriteListener {
+
+    void onUpsert(Product product);
+
+    /**
+     * @param id        Mongo {@code _id} of the removed document
+     * @param productId productId of the removed document, or null when it is not known
+     */
+    void onDelete(String id, String productId);
+
+    /**
+     * Changes may have been missed (change stream history lost, collection dropped);
+     * everything held locally has to be rebuilt from the collection.
+     */
+    void onReset();
+}
@@ -0,0 +1,221 @@
+package com.brajesh.catalog.domain.product.services;
+
+import com.brajesh.catalog.domain.product.exception.ProductDetailsException;
+import com.brajesh.catalog.domain.product.exception.ProductException;
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.brajesh.catalog.domain.product.model.sync.SyncPosition;
+import com.brajesh.catalog.domain.product.repository.ProductRepository;
+import com.brajesh.catalog.domain.product.utils.QueryUtils;
+import com.brajesh.catalog.domain.product.utils.VersionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.brajesh.catalog.domain.product.exception.ProductDetailsException.INVALID_PRODUCT_ID;
+import static com.brajesh.catalog.domain.product.exception.ProductDetailsException.SB_PL_PRODUCT_ALREADY_EXISTS;
+import static com.brajesh.catalog.domain.product.utils.MetricsUtils.timedFlux;
+import static com.brajesh.catalog.domain.product.utils.MetricsUtils.timedMono;
+
+/**
+ * Default runtime mode ({@code product.runtime.mode=reactive}): every Mongo call goes through
+ * the reactive driver.
+ */
+@Service
+@ConditionalOnProperty(name = "product.runtime.mode", havingValue = "reactive", matchIfMissing = true)
+public class ReactiveProductService implements ProductService {
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+
+    private final ProductRepository productRepository;
+    private final ProductCache productCache;
+    private final ProductSnapshotService productSnapshotService;
+    private final List<ProductWriteListener> writeListeners;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.stream.cursor-batch-size:500}")
+    private int cursorBatchSize;
+
+    @Value("${product.batch-get.chunk-size:500}")
+    private int batchGetChunkSize;
+
+    @Value("${product.changes.safety-lag:5s}")
+    private Duration changesSafetyLag;
+
+    public ReactiveProductService(@Autowired ProductRepository productRepository,
+                                  @Autowired ProductCache productCache,
+                                  @Autowired ProductSnapshotService productSnapshotService,
+                                  @Autowired List<ProductWriteListener> writeListeners,
+                                  @Autowired MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.productSnapshotService = productSnapshotService;
+        this.writeListeners = writeListeners;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Product> createProductService(Product product) {
+
+        return Mono.fromSupplier(() -> VersionUtils.stamp(product, null, Instant.now()))
+                .flatMap(productRepository::save)
+                .onErrorMap(DuplicateKeyException.class, e -> new ProductException(SB_PL_PRODUCT_ALREADY_EXISTS))
+                .doOnNext(this::notifyUpsert)
+                .transform(timedMono(meterRegistry, "createProduct"));
+    }
+
+    @Override
+    public Flux<Product> createBulkProductService(List<Product> productList){
+
+        Instant now = Instant.now();
+        productList.forEach(product -> VersionUtils.stamp(product, null, now));
+        return productRepository.saveAll(productList)
+                .onErrorMap(DuplicateKeyException.class, e -> new ProductException(SB_PL_PRODUCT_ALREADY_EXISTS))
+                .doOnNext(this::notifyUpsert)
+                .transform(timedFlux(meterRegistry, "createBulkProduct"));
+    }
+
+    @Override
+    public Flux<Product> listOfAllProduct(){
+        if (productSnapshotService.isReady()) {
+            return productSnapshotService.findAll();
+        }
+        return productRepository.findAll()
+                .transform(timedFlux(meterRegistry, "listOfAllProduct"));
+    }
+
+    /**
+     * Streams the catalog straight off the Mongo cursor. Demand from the subscriber is
+     * forwarded to the driver, which fetches {@code cursorBatchSize} documents per getMore.
+     */
+    @Override
+    public Flux<Product> streamAllProduct() {
+        if (productSnapshotService.isReady()) {
+            return productSnapshotService.findAll();
+        }
+        return mongoTemplate.find(QueryUtils.findAll(cursorBatchSize), Product.class)
+                .transform(timedFlux(meterRegistry, "streamAllProduct"));
+    }
+
+    @Override
+    public Flux<Product> listProductPage(String afterId, int limit, Set<String> fields) {
+        return mongoTemplate.find(QueryUtils.findPage(afterId, limit, fields), Product.class)
+                .transform(timedFlux(meterRegistry, "listProductPage"));
+    }
+
+    /**
+     * Products inserted or updated after {@code after}, oldest first. Changes younger than
+     * {@code product.changes.safety-lag} are held back: lastModified is stamped before the write
+     * commits, so a slower write can still land with an earlier timestamp than one already
+     * returned, and the lag keeps the feed from moving past it.
+     */
+    @Override
+    public Flux<Product> listChangesSince(SyncPosition after, int limit) {
+
+        return Flux.defer(() -> mongoTemplate.find(
+                        QueryUtils.findChangesSince(after, changesUpperBound(), limit, cursorBatchSize), Product.class))
+                .transform(timedFlux(meterRegistry, limit > 0 ? "listChangesSince" : "streamChangesSince"));
+    }
+
+    private Instant changesUpperBound() {
+
+        return Instant.now().minus(changesSafetyLag);
+    }
+
+    @Override
+    public Mono<Product> getProduct(String productId) {
+
+        if (productSnapshotService.isReady()) {
+            return Mono.justOrEmpty(productSnapshotService.find(productId))
+                    .switchIfEmpty(Mono.error(new ProductException(INVALID_PRODUCT_ID)));
+        }
+        return productCache.get(productId, this::findProduct)
+                .switchIfEmpty(Mono.error(new ProductException(INVALID_PRODUCT_ID)))
+                .transform(timedMono(meterRegistry, "getProduct"));
+    }
+
+    /**
+     * ETag and Last-Modified inputs only (productId, contentHash, lastModified), from the snapshot
+     * or a loaded cache entry when available, otherwise from a query covered by an index.
+     */
+    @Override
+    public Mono<Product> getProductValidators(String productId) {
+
+        if (productSnapshotService.isReady()) {
+            return getProduct(productId);
+        }
+        Optional<Product> cached = productCache.peek(productId);
+        if (cached.isPresent()) {
+            return Mono.just(cached.get());
+        }
+        return mongoTemplate.findOne(QueryUtils.findValidators(productId), Product.class)
+                .switchIfEmpty(Mono.error(new ProductException(INVALID_PRODUCT_ID)))
+                .transform(timedMono(meterRegistry, "getProductValidators"));
+    }
+
+    /**
+     * Weak ETag of the full listing from the collection count metadata and the newest
+     * lastModified; two index-only reads instead of the listing itself.
+     */
+    @Override
+    public Mono<String> getListingEtag() {
+
+        return Mono.zip(
+                        mongoTemplate.estimatedCount(Product.class),
+                        mongoTemplate.findOne(QueryUtils.findLastModified(), Product.class)
+                                .map(product -> Optional.ofNullable(product.getLastModified()))
+                                .defaultIfEmpty(Optional.empty()))
+                .map(validators -> VersionUtils.listingEtag(validators.getT1(), validators.getT2().orElse(null)))
+                .transform(timedMono(meterRegistry, "getListingEtag"));
+    }
+
+    /**
+     * Resolves many productIds with one {@code $in} query per chunk of {@code batchGetChunkSize}
+     * distinct ids. Ids that do not exist are simply absent from the returned map.
+     */
+    @Override
+    public Mono<Map<String, Product>> getProducts(List<String> productIds) {
+
+        if (productSnapshotService.isReady()) {
+            return Flux.fromIterable(new LinkedHashSet<>(productIds))
+                    .mapNotNull(productId -> productSnapshotService.find(productId).orElse(null))
+                    .collectMap(Product::getProductId);
+        }
+        return Flux.fromIterable(new LinkedHashSet<>(productIds))
+                .buffer(batchGetChunkSize)
+                .flatMap(chunk -> mongoTemplate.find(QueryUtils.findByProductIDs(chunk), Product.class))
+                .collectMap(Product::getProductId)
+                .transform(timedMono(meterRegistry, "getProducts"));
+    }
+
+    private void notifyUpsert(Product product) {
+
+        writeListeners.forEach(listener -> listener.onUpsert(product));
+    }
+
+    private Mono<Product> findProduct(String productId) {
+
+        return Mono.just(productId)
+                .map(QueryUtils::findByProductID)
+                .flatMap(q -> mongoTemplate.findOne(q, Product.class));
+    }
+
+
+
+
+}
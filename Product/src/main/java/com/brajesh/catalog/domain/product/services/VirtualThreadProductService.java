@@ -0,0 +1,224 @@
+package com.brajesh.catalog.domain.product.services;
+
+import com.brajesh.catalog.domain.product.exception.ProductException;
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.brajesh.catalog.domain.product.model.sync.SyncPosition;
+import com.brajesh.catalog.domain.product.utils.QueryUtils;
+import com.brajesh.catalog.domain.product.utils.VersionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import static com.brajesh.catalog.domain.product.exception.ProductDetailsException.INVALID_PRODUCT_ID;
+import static com.brajesh.catalog.domain.product.exception.ProductDetailsException.SB_PL_PRODUCT_ALREADY_EXISTS;
+import static com.brajesh.catalog.domain.product.utils.MetricsUtils.timedFlux;
+import static com.brajesh.catalog.domain.product.utils.MetricsUtils.timedMono;
+
+/**
+ * Alternative runtime mode ({@code product.runtime.mode=virtual-threads}): every Mongo call
+ * goes through the synchronous driver as plain blocking code, one virtual thread per service
+ * call, and is bridged back to the unchanged {@code ProductResource} contract at the edge.
+ * The blocking client is created by {@code BlockingMongoConfig} in this mode only.
+ * Cache and snapshot behave exactly as in the reactive mode, so both modes can be compared
+ * under the same load with the same {@code product.service} timers.
+ */
+@Service
+@ConditionalOnProperty(name = "product.runtime.mode", havingValue = "virtual-threads")
+public class VirtualThreadProductService implements ProductService {
+
+    private final MongoTemplate blockingTemplate;
+    private final ProductCache productCache;
+    private final ProductSnapshotService productSnapshotService;
+    private final List<ProductWriteListener> writeListeners;
+    private final MeterRegistry meterRegistry;
+    private final Scheduler virtualThreads =
+            Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "product-virtual");
+
+    @Value("${product.stream.cursor-batch-size:500}")
+    private int cursorBatchSize;
+
+    @Value("${product.batch-get.chunk-size:500}")
+    private int batchGetChunkSize;
+
+    @Value("${product.changes.safety-lag:5s}")
+    private Duration changesSafetyLag;
+
+    public VirtualThreadProductService(@Autowired MongoTemplate blockingTemplate,
+                                       @Autowired ProductCache productCache,
+                                       @Autowired ProductSnapshotService productSnapshotService,
+                                       @Autowired List<ProductWriteListener> writeListeners,
+                                       @Autowired MeterRegistry meterRegistry) {
+        this.blockingTemplate = blockingTemplate;
+        this.productCache = productCache;
+        this.productSnapshotService = productSnapshotService;
+        this.writeListeners = writeListeners;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        virtualThreads.dispose();
+    }
+
+    @Override
+    public Mono<Product> createProductService(Product product) {
+
+        return blocking(() -> {
+            Product saved = save(VersionUtils.stamp(product, null, Instant.now()));
+            notifyUpsert(saved);
+            return saved;
+        }).transform(timedMono(meterRegistry, "createProduct"));
+    }
+
+    @Override
+    public Flux<Product> createBulkProductService(List<Product> productList) {
+
+        return blocking(() -> {
+            List<Product> saved = new ArrayList<>(productList.size());
+            Instant now = Instant.now();
+            for (Product product : productList) {
+                saved.add(save(VersionUtils.stamp(product, null, now)));
+                notifyUpsert(saved.getLast());
+            }
+            return saved;
+        }).flatMapIterable(Function.identity())
+                .transform(timedFlux(meterRegistry, "createBulkProduct"));
+    }
+
+    @Override
+    public Flux<Product> listOfAllProduct() {
+        if (productSnapshotService.isReady()) {
+            return productSnapshotService.findAll();
+        }
+        return blocking(() -> blockingTemplate.findAll(Product.class))
+                .flatMapIterable(Function.identity())
+                .transform(timedFlux(meterRegistry, "listOfAllProduct"));
+    }
+
+    /**
+     * The blocking cursor is iterated on demand on a virtual thread and closed on completion or cancel.
+     */
+    @Override
+    public Flux<Product> streamAllProduct() {
+        if (productSnapshotService.isReady()) {
+            return productSnapshotService.findAll();
+        }
+        return Flux.fromStream(() -> blockingTemplate.stream(QueryUtils.findAll(cursorBatchSize), Product.class))
+                .subscribeOn(virtualThreads)
+                .transform(timedFlux(meterRegistry, "streamAllProduct"));
+    }
+
+    @Override
+    public Flux<Product> listProductPage(String afterId, int limit, Set<String> fields) {
+
+        return blocking(() -> blockingTemplate.find(QueryUtils.findPage(afterId, limit, fields), Product.class))
+                .flatMapIterable(Function.identity())
+                .transform(timedFlux(meterRegistry, "listProductPage"));
+    }
+
+    @Override
+    public Flux<Product> listChangesSince(SyncPosition after, int limit) {
+
+        return Flux.defer(() -> {
+                    Query query = QueryUtils.findChangesSince(after, Instant.now().minus(changesSafetyLag), limit, cursorBatchSize);
+                    return Flux.fromStream(() -> blockingTemplate.stream(query, Product.class));
+                })
+                .subscribeOn(virtualThreads)
+                .transform(timedFlux(meterRegistry, limit > 0 ? "listChangesSince" : "streamChangesSince"));
+    }
+
+    @Override
+    public Mono<Product> getProduct(String productId) {
+        if (productSnapshotService.isReady()) {
+            return Mono.justOrEmpty(productSnapshotService.find(productId))
+                    .switchIfEmpty(Mono.error(new ProductException(INVALID_PRODUCT_ID)));
+        }
+        return productCache.get(productId, id -> blocking(() -> blockingTemplate.findOne(QueryUtils.findByProductID(id), Product.class)))
+                .switchIfEmpty(Mono.error(new ProductException(INVALID_PRODUCT_ID)))
+                .transform(timedMono(meterRegistry, "getProduct"));
+    }
+
+    @Override
+    public Mono<Product> getProductValidators(String productId) {
+        if (productSnapshotService.isReady()) {
+            return getProduct(productId);
+        }
+        Optional<Product> cached = productCache.peek(productId);
+        if (cached.isPresent()) {
+            return Mono.just(cached.get());
+        }
+        return blocking(() -> blockingTemplate.findOne(QueryUtils.findValidators(productId), Product.class))
+                .switchIfEmpty(Mono.error(new ProductException(INVALID_PRODUCT_ID)))
+                .transform(timedMono(meterRegistry, "getProductValidators"));
+    }
+
+    @Override
+    public Mono<String> getListingEtag() {
+
+        return blocking(() -> {
+            Product newest = blockingTemplate.findOne(QueryUtils.findLastModified(), Product.class);
+            return VersionUtils.listingEtag(blockingTemplate.estimatedCount(Product.class),
+                    newest == null ? null : newest.getLastModified());
+        }).transform(timedMono(meterRegistry, "getListingEtag"));
+    }
+
+    @Override
+    public Mono<Map<String, Product>> getProducts(List<String> productIds) {
+        if (productSnapshotService.isReady()) {
+            return Flux.fromIterable(new LinkedHashSet<>(productIds))
+                    .mapNotNull(productId -> productSnapshotService.find(productId).orElse(null))
+                    .collectMap(Product::getProductId);
+        }
+        return blocking(() -> {
+            List<String> distinct = List.copyOf(new LinkedHashSet<>(productIds));
+            Map<String, Product> found = new HashMap<>(distinct.size() * 2);
+            for (int from = 0; from < distinct.size(); from += batchGetChunkSize) {
+                List<String> chunk = distinct.subList(from, Math.min(from + batchGetChunkSize, distinct.size()));
+                blockingTemplate.find(QueryUtils.findByProductIDs(chunk), Product.class)
+                        .forEach(product -> found.put(product.getProductId(), product));
+            }
+            return found;
+        }).transform(timedMono(meterRegistry, "getProducts"));
+    }
+
+    private Product save(Product product) {
+        try {
+            return blockingTemplate.save(product);
+        } catch (DuplicateKeyException e) {
+            throw new ProductException(SB_PL_PRODUCT_ALREADY_EXISTS);
+        }
+    }
+
+    private void notifyUpsert(Product product) {
+
+        writeListeners.forEach(listener -> listener.onUpsert(product));
+    }
+
+    private <T> Mono<T> blocking(Callable<T> call) {
+
+        return Mono.fromCallable(call).subscribeOn(virtualThreads);
+    }
+}
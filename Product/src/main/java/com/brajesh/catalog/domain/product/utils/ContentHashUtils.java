@@ -0,0 +1,39 @@
+package com.brajesh.catalog.domain.product.utils;
+
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Content hash of the client-supplied product fields. Two payloads with the same hash
+ * describe the same product, which lets imports skip writes for unchanged documents.
+ */
+@NoArgsConstructor
+public class ContentHashUtils {
+
+    private static final char SEPARATOR = '\u001F';
+
+    public static String contentHash(String productId, String title, String brand,
+                                     String manufacturer, BigDecimal price) {
+
+        StringBuilder content = new StringBuilder(128)
+                .append(productId).append(SEPARATOR)
+                .append(title).append(SEPARATOR)
+                .append(brand).append(SEPARATOR)
+                .append(manufacturer).append(SEPARATOR)
+                .append(price == null ? null : price.stripTrailingZeros().toPlainString());    // 10.0 == 10.00
+        return HexFormat.of().formatHex(sha256().digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.brajesh.catalog.domain.product.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.NoArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.function.Function;
+
+/**
+ * Reactive timers: the sample starts on subscription and stops on the terminal signal,
+ * so the recorded time covers the whole publisher rather than its assembly.
+ */
+@NoArgsConstructor
+public class MetricsUtils {
+
+    public static final String SERVICE_TIMER = "product.service";
+
+    public static <T> Function<Mono<T>, Mono<T>> timedMono(MeterRegistry registry, String method) {
+        return mono -> Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return mono.doFinally(signal -> sample.stop(serviceTimer(registry, method, signal)));
+        });
+    }
+
+    public static <T> Function<Flux<T>, Flux<T>> timedFlux(MeterRegistry registry, String method) {
+        return flux -> Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return flux.doFinally(signal -> sample.stop(serviceTimer(registry, method, signal)));
+        });
+    }
+
+    private static Timer serviceTimer(MeterRegistry registry, String method, SignalType signal) {
+        return Timer.builder(SERVICE_TIMER)
+                .tag("method", method)
+                .tag("outcome", switch (signal) {
+                    case ON_ERROR -> "error";
+                    case CANCEL -> "cancelled";
+                    default -> "success";
+                })
+                .register(registry);
+    }
+}
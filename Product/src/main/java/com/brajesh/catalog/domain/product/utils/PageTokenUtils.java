@@ -0,0 +1,39 @@
+package com.brajesh.catalog.domain.product.utils;
+
+import com.brajesh.catalog.domain.product.exception.ProductException;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+
+import java.util.Base64;
+
+import static com.brajesh.catalog.domain.product.exception.ProductDetailsException.SB_PL_INVALID_INPUT_DATA;
+
+/**
+ * Opaque continuation tokens for keyset pagination. A token wraps the {@code _id} of the
+ * last document on the previous page; clients must treat it as an opaque string.
+ */
+@NoArgsConstructor
+public class PageTokenUtils {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static String encode(String lastId) {
+        return ENCODER.encodeToString(new ObjectId(lastId).toByteArray());
+    }
+
+    public static String decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] bytes = DECODER.decode(token);
+            if (bytes.length != 12) {
+                throw new ProductException(SB_PL_INVALID_INPUT_DATA);
+            }
+            return new ObjectId(bytes).toHexString();
+        } catch (IllegalArgumentException e) {
+            throw new ProductException(SB_PL_INVALID_INPUT_DATA);
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package com.brajesh.catalog.domain.product.utils;
 
+import com.brajesh.catalog.domain.product.model.sync.SyncPosition;
 import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
+
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @NoArgsConstructor
@@ -11,7 +19,85 @@ public class QueryUtils {
     public static Query findByProductID(String ProductId) {
 
         Query q = new Query();
-        q.addCriteria(where("ProductId").is(ProductId));
+        q.addCriteria(where("productId").is(ProductId));
+        return q;
+    }
+
+    public static Query findByProductIDs(Collection<String> productIds) {
+
+        return new Query(where("productId").in(productIds));
+    }
+
+    public static Query findContentHashes(Collection<String> productIds) {
+
+        Query q = findByProductIDs(productIds);
+        q.fields().include("productId").include("contentHash").include("version");
+        return q;
+    }
+
+    /**
+     * Only what conditional GET needs; covered by the {@code productId_validators} index.
+     */
+    public static Query findValidators(String productId) {
+
+        Query q = findByProductID(productId);
+        q.fields().include("productId").include("contentHash").include("lastModified").exclude("_id");
+        return q;
+    }
+
+    /**
+     * The most recently modified product, read from the {@code lastModified_id} index.
+     */
+    public static Query findLastModified() {
+
+        Query q = new Query()
+                .with(Sort.by(Sort.Direction.DESC, "lastModified"))
+                .limit(1);
+        q.fields().include("lastModified").exclude("_id");
+        return q;
+    }
+
+    /**
+     * Products modified after {@code after} (or all, without a position) and no later than
+     * {@code upTo}, in {@code (lastModified, _id)} order. The range on lastModified bounds the
+     * scan of the {@code lastModified_id} index, which also provides the sort; the {@code $or}
+     * only filters ties on the start timestamp.
+     */
+    public static Query findChangesSince(SyncPosition after, Instant upTo, int limit, int cursorBatchSize) {
+
+        Criteria lastModified = where("lastModified").lte(upTo);
+        if (after != null) {
+            lastModified = lastModified.gte(after.getLastModified())
+                    .orOperator(where("lastModified").gt(after.getLastModified()),
+                            where("_id").gt(new ObjectId(after.getId())));
+        }
+        Query q = new Query(lastModified)
+                .with(Sort.by(Sort.Direction.ASC, "lastModified", "_id"))
+                .cursorBatchSize(cursorBatchSize);
+        if (limit > 0) {
+            q.limit(limit);
+        }
+        return q;
+    }
+
+    public static Query findAll(int cursorBatchSize) {
+
+        return new Query().cursorBatchSize(cursorBatchSize);
+    }
+
+    /**
+     * Keyset page over {@code _id}: seeks past the last seen id on the {@code _id} index
+     * instead of skipping, so every page costs the same regardless of depth.
+     */
+    public static Query findPage(String afterId, int limit, Set<String> fields) {
+
+        Query q = new Query()
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(limit);
+        if (afterId != null) {
+            q.addCriteria(where("_id").gt(new ObjectId(afterId)));
+        }
+        fields.forEach(field -> q.fields().include(field));
         return q;
     }
 }
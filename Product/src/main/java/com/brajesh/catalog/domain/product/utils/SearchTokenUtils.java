@@ -0,0 +1,50 @@
+package com.brajesh.catalog.domain.product.utils;
+
+import lombok.NoArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalized words used for prefix search: lower case, accents stripped, split on anything
+ * that is not a letter or digit. Stored on the product and applied to the query the same way.
+ */
+@NoArgsConstructor
+public class SearchTokenUtils {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    public static List<String> tokens(String... texts) {
+
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String text : texts) {
+            tokens.addAll(split(text));
+        }
+        return List.copyOf(tokens);
+    }
+
+    /**
+     * Tokens in input order, duplicates kept; a query keeps its last, possibly partial, word last.
+     */
+    public static List<String> split(String text) {
+
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
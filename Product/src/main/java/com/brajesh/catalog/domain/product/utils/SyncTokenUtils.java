@@ -0,0 +1,55 @@
+package com.brajesh.catalog.domain.product.utils;
+
+import com.brajesh.catalog.domain.product.exception.ProductException;
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.brajesh.catalog.domain.product.model.sync.SyncPosition;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+
+import static com.brajesh.catalog.domain.product.exception.ProductDetailsException.SB_PL_INVALID_INPUT_DATA;
+
+/**
+ * Opaque sync tokens for the changes feed: epoch millis of lastModified followed by the
+ * 12 bytes of {@code _id}. Clients store the last token they received and send it back as-is.
+ */
+@NoArgsConstructor
+public class SyncTokenUtils {
+
+    private static final int TOKEN_BYTES = Long.BYTES + 12;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static String encode(Product product) {
+
+        ByteBuffer bytes = ByteBuffer.allocate(TOKEN_BYTES)
+                .putLong(product.getLastModified().toEpochMilli())
+                .put(new ObjectId(product.getId()).toByteArray());
+        return ENCODER.encodeToString(bytes.array());
+    }
+
+    /**
+     * @return null for a missing token, meaning "from the beginning"
+     */
+    public static SyncPosition decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] bytes = DECODER.decode(token);
+            if (bytes.length != TOKEN_BYTES) {
+                throw new ProductException(SB_PL_INVALID_INPUT_DATA);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            Instant lastModified = Instant.ofEpochMilli(buffer.getLong());
+            byte[] id = new byte[12];
+            buffer.get(id);
+            return new SyncPosition(lastModified, new ObjectId(id).toHexString());
+        } catch (IllegalArgumentException e) {
+            throw new ProductException(SB_PL_INVALID_INPUT_DATA);
+        }
+    }
+}
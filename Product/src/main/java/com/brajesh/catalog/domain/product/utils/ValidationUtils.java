@@ -2,13 +2,17 @@ package com.brajesh.catalog.domain.product.utils;
 
 import com.brajesh.catalog.domain.product.exception.ProductException;
 import com.brajesh.catalog.domain.product.model.api.requestDto.ProductRequestDto;
+import com.brajesh.catalog.domain.product.model.api.requestDto.ProductSearchRequestDto;
 import lombok.NoArgsConstructor;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import static com.brajesh.catalog.domain.product.exception.ProductDetailsException.SB_PL_INVALID_INPUT_DATA;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -19,6 +23,9 @@ public class ValidationUtils {
 
     private static final Logger logger= getLogger(ValidationUtils.class);
 
+    private static final Set<String> PROJECTABLE_FIELDS =
+            Set.of("productId", "title", "brand", "manufacturer", "price");
+
     public static Mono<List<ProductRequestDto>> validateAndReturnList(
             List<ProductRequestDto> list
     ) {
@@ -34,6 +41,12 @@ public class ValidationUtils {
     }
 
 
+   public static boolean isValidProductRequest(ProductRequestDto requestDto) {
+        return requestDto != null
+                && requestDto.getProductId() != null
+                && !requestDto.getProductId().isBlank();
+   }
+
    public static boolean isMissingOrValidProductId(String productId){
         if (productId==null ||productId.isBlank()){
             throw new ProductException(SB_PL_INVALID_INPUT_DATA);
@@ -41,6 +54,72 @@ public class ValidationUtils {
        return true;
    }
 
+    public static Mono<List<String>> validateBatchGet(List<String> productIds, int maxSize) {
+        if (productIds == null || productIds.isEmpty() || productIds.size() > maxSize) {
+            return Mono.error(toDxpExceptionWhenInValidInputData());
+        }
+        return Flux.fromIterable(productIds)
+                .filter(id -> id == null || id.isBlank())
+                .hasElements()
+                .flatMap(hasInvalid -> {
+                    if (hasInvalid) {
+                        return Mono.error(toDxpExceptionWhenInValidInputData());
+                    }
+                    return Mono.just(productIds);
+                });
+    }
+
+   public static int validatePageSize(int size, int maxPageSize) {
+        if (size < 1) {
+            throw new ProductException(SB_PL_INVALID_INPUT_DATA);
+        }
+        return Math.min(size, maxPageSize);
+   }
+
+   public static Set<String> validateProjection(List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> projection = new LinkedHashSet<>(fields);
+        if (!PROJECTABLE_FIELDS.containsAll(projection)) {
+            throw new ProductException(SB_PL_INVALID_INPUT_DATA);
+        }
+        return projection;
+   }
+
+   public static ProductSearchRequestDto validateSearch(ProductSearchRequestDto request, int maxPageSize, int maxOffset) {
+        boolean invalid = request.getPage() < 0
+                || request.getSize() < 1 || request.getSize() > maxPageSize
+                || (long) request.getPage() * request.getSize() > maxOffset
+                || (request.getQ() != null && request.getQ().isBlank())
+                || (request.getPrefix() != null && request.getPrefix().isBlank())
+                || (request.getMinPrice() != null && request.getMaxPrice() != null
+                    && request.getMinPrice().compareTo(request.getMaxPrice()) > 0);
+        if (invalid) {
+            throw new ProductException(SB_PL_INVALID_INPUT_DATA);
+        }
+        return request;
+   }
+
+   public static List<BigDecimal> validateHistogramBoundaries(List<BigDecimal> boundaries, int maxBuckets) {
+        if (boundaries == null || boundaries.size() < 2 || boundaries.size() > maxBuckets + 1) {
+            throw new ProductException(SB_PL_INVALID_INPUT_DATA);
+        }
+        for (int i = 1; i < boundaries.size(); i++) {
+            if (boundaries.get(i - 1).compareTo(boundaries.get(i)) >= 0) {      // strictly ascending
+                throw new ProductException(SB_PL_INVALID_INPUT_DATA);
+            }
+        }
+        return boundaries;
+   }
+
+   public static int validateBucketCount(int buckets, int maxBuckets) {
+        if (buckets < 1 || buckets > maxBuckets) {
+            throw new ProductException(SB_PL_INVALID_INPUT_DATA);
+        }
+        return buckets;
+   }
+
     private static RuntimeException toDxpExceptionWhenInValidInputData() {
         return new ProductException(SB_PL_INVALID_INPUT_DATA);
     }
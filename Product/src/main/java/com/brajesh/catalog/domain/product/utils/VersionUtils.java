@@ -0,0 +1,45 @@
+package com.brajesh.catalog.domain.product.utils;
+
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Version and validator handling for conditional GET. The strong ETag is the content hash,
+ * which changes exactly when the client-visible representation changes.
+ */
+@NoArgsConstructor
+public class VersionUtils {
+
+    /**
+     * Stamps a product about to be written: {@code previousVersion + 1}, or 1 when it is new.
+     * lastModified is kept at millisecond precision, as stored by Mongo, so sync tokens and
+     * Last-Modified built from the written object match those built from a later read.
+     */
+    public static Product stamp(Product product, Long previousVersion, Instant now) {
+
+        product.setVersion(previousVersion == null ? 1L : previousVersion + 1);
+        product.setLastModified(now.truncatedTo(ChronoUnit.MILLIS));
+        return product;
+    }
+
+    public static String etag(Product product) {
+
+        String hash = product.getContentHash() != null
+                ? product.getContentHash()
+                : ContentHashUtils.contentHash(product.getProductId(), product.getTitle(), product.getBrand(),
+                        product.getManufacturer(), product.getPrice());        // written before hashes existed
+        return "\"" + hash + "\"";
+    }
+
+    /**
+     * Weak validator for the full listing: any insert or update moves the newest lastModified,
+     * any delete changes the count.
+     */
+    public static String listingEtag(long count, Instant newestModification) {
+
+        return "W/\"" + count + "-" + (newestModification == null ? 0 : newestModification.toEpochMilli()) + "\"";
+    }
+}
@@ -0,0 +1,88 @@
+package com.brajesh.catalog.domain.product;
+
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import io.restassured.RestAssured;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static com.brajesh.catalog.domain.product.constant.UriConstants.API_CREATE_PRODUCT;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.API_PRODUCT;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Helpers shared by the API tests. Test classes share one container, so every test works on
+ * productIds of its own, made unique with {@link #uniqueId}.
+ */
+final class ProductApiTestSupport {
+
+    private ProductApiTestSupport() {
+    }
+
+    static String uniqueId(String prefix) {
+        return prefix + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
+    }
+
+    static String productJson(String productId, String title, String brand, String manufacturer, String price) {
+        return """
+                {
+                   "productId": %s,
+                   "title": %s,
+                   "brand": %s,
+                   "manufacturer": %s,
+                   "price": %s
+                 }
+                """.formatted(quoted(productId), quoted(title), quoted(brand), quoted(manufacturer), price);
+    }
+
+    static void createProduct(String productJson) {
+        RestAssured.given()
+                .contentType("application/json")
+                .body(productJson)
+                .when()
+                .post(API_PRODUCT + API_CREATE_PRODUCT)
+                .then()
+                .statusCode(201);
+    }
+
+    /**
+     * Indexes are built in the background once the application is ready; unique productIds,
+     * text search and the covered queries need them in place.
+     */
+    static void awaitIndexes(ReactiveMongoTemplate mongoTemplate) {
+        long declared = 0;
+        for (IndexDefinition ignored : IndexResolver.create(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(Product.class)) {
+            declared++;
+        }
+        if (declared == 0) {
+            return;                                                     // nothing is built at startup
+        }
+        long expected = declared + 1;                                   // plus _id
+        awaitTrue(() -> mongoTemplate.indexOps(Product.class).getIndexInfo()
+                .count()
+                .onErrorReturn(0L)                                      // collection not created yet
+                .block() >= expected);
+    }
+
+    static void awaitTrue(Supplier<Boolean> condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.get()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 10s");
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static String quoted(String value) {
+        return value == null ? "null" : "\"" + value + "\"";
+    }
+}
@@ -1,24 +1,73 @@
 package com.brajesh.catalog.domain.product;
 
+import com.brajesh.catalog.domain.product.model.api.responseDto.ProductResponseDto;
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.brajesh.catalog.domain.product.resources.PooledArrayWriter;
+import com.brajesh.catalog.domain.product.services.ProductTypeaheadIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.EncoderConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.path.json.JsonPath;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.awaitIndexes;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.awaitTrue;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.createProduct;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.productJson;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.uniqueId;
 import static com.brajesh.catalog.domain.product.constant.UriConstants.API_CREATE_PRODUCT;
 import static com.brajesh.catalog.domain.product.constant.UriConstants.API_PRODUCT;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.PRODUCTS;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.PRODUCTS_BATCH_GET;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.PRODUCTS_BY_ID;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.PRODUCTS_SUGGEST;
+import static com.brajesh.catalog.domain.product.utils.QueryUtils.findByProductID;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Import(TestcontainersConfiguration.class)
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 class ProductApplicationTests {
     @LocalServerPort
 	private  Integer port;
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+    @Autowired
+    private PooledArrayWriter pooledArrayWriter;
+    @Autowired
+    private JsonMapper jsonMapper;
     @BeforeEach
 	void setup(){
         RestAssured.baseURI= "http://localhost";
@@ -49,4 +98,267 @@ class ProductApplicationTests {
                 .body("price",Matchers.equalTo(129.99F));
     }
 
+    @Test
+    void shouldStreamProductsAsNdjson() {
+        List<String> productIds = List.of("B0C7XQ12ND", "B0C7XQ13ND");
+        for (String productId : productIds) {
+            String requestBody = """
+                     {
+                        "productId": "%s",
+                        "title": "USB-C Charger",
+                        "brand": "VoltEdge",
+                        "manufacturer": "VoltEdge Electronics Ltd",
+                        "price": 19.99
+                      }
+                    """.formatted(productId);
+            RestAssured.given()
+                    .contentType("application/json")
+                    .body(requestBody)
+                    .when()
+                    .post(API_PRODUCT+API_CREATE_PRODUCT)
+                    .then()
+                    .statusCode(201);
+        }
+
+        List<JsonPath> lines = RestAssured.given()
+                .accept("application/x-ndjson")
+                .when()
+                .get(API_PRODUCT+PRODUCTS)
+                .then()
+                .statusCode(200)
+                .contentType(Matchers.startsWith("application/x-ndjson"))
+                .extract()
+                .asString()
+                .lines()
+                .filter(line -> !line.isBlank())
+                .map(JsonPath::from)                                    // one product object per line
+                .toList();
+
+        assertTrue(lines.stream().map(line -> line.getString("productId")).toList().containsAll(productIds));
+        assertTrue(lines.stream().allMatch(line -> line.getString("title") != null));
+    }
+
+    @Test
+    void shouldRejectDuplicateProductId() {
+        awaitIndexes(mongoTemplate);                                    // the unique productId index
+        String productId = uniqueId("B0DUPE");
+        createProduct(productJson(productId, "Mechanical Keyboard", "KeyForge", "KeyForge Ltd", "89.00"));
+
+        RestAssured.given()
+                .contentType("application/json")
+                .body(productJson(productId, "Mechanical Keyboard v2", "KeyForge", "KeyForge Ltd", "99.00"))
+                .when()
+                .post(API_PRODUCT+API_CREATE_PRODUCT)
+                .then()
+                .statusCode(409)
+                .body("code", Matchers.equalTo("SB_PL_PRODUCT_ALREADY_EXISTS"));
+    }
+
+    @Test
+    void shouldServeCachedProductUntilItIsWrittenAgain() {
+        awaitIndexes(mongoTemplate);
+        String productId = uniqueId("B0CACHE");
+        createProduct(productJson(productId, "Desk Lamp", "LumaCo", "LumaCo Ltd", "39.00"));
+        assertTitle(productId, "Desk Lamp");                            // loads the cache
+
+        mongoTemplate.updateFirst(findByProductID(productId), Update.update("title", "Floor Lamp"), Product.class)
+                .block();
+        assertTitle(productId, "Desk Lamp");                            // changed behind the service: still cached
+
+        mongoTemplate.remove(findByProductID(productId), Product.class).block();
+        createProduct(productJson(productId, "Reading Lamp", "LumaCo", "LumaCo Ltd", "45.00"));
+        assertTitle(productId, "Reading Lamp");                         // the write invalidated the entry
+    }
+
+    private static void assertTitle(String productId, String title) {
+        RestAssured.given()
+                .queryParam("productId", productId)
+                .when()
+                .get(API_PRODUCT+PRODUCTS_BY_ID)
+                .then()
+                .statusCode(200)
+                .body("title", Matchers.equalTo(title));
+    }
+
+    @Test
+    void shouldBatchGetInRequestOrderWithNotFoundMarkers() {
+        String first = uniqueId("B0BATCH");
+        String second = uniqueId("B0BATCH");
+        String missing = uniqueId("B0BATCH");
+        createProduct(productJson(first, "Office Chair", "SitWell", "SitWell Ltd", "199.00"));
+        createProduct(productJson(second, "Standing Desk", "SitWell", "SitWell Ltd", "349.00"));
+
+        JsonPath results = RestAssured.given()
+                .contentType("application/json")
+                .body("""
+                        {"productIds": ["%s", "%s", "%s"]}
+                        """.formatted(second, missing, first))
+                .when()
+                .post(API_PRODUCT+PRODUCTS_BATCH_GET)
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath();
+
+        assertEquals(List.of(second, missing, first), results.getList("productId", String.class));
+        assertEquals(List.of(true, false, true), results.getList("found", Boolean.class));
+        assertEquals("Standing Desk", results.getString("[0].product.title"));
+        assertNull(results.get("[1].product"));
+        assertEquals("Office Chair", results.getString("[2].product.title"));
+    }
+
+    /**
+     * The typeahead index is off in this context, so the endpoint answers from MongoDB; the
+     * ranking is checked on an index built here over the same collection.
+     */
+    @Test
+    void shouldSuggestFromMongoUntilIndexIsReadyAndRankExactWordsFirst() {
+        awaitIndexes(mongoTemplate);
+        String word = uniqueId("kettle").toLowerCase();
+        String exactShort = uniqueId("B0SUGG");
+        String exactLong = uniqueId("B0SUGG");
+        String prefixOnly = uniqueId("B0SUGG");
+        createProduct(productJson(exactShort, word + " Pro", "BrewCo", "BrewCo Ltd", "59.00"));
+        createProduct(productJson(exactLong, "Electric " + word + " with Temperature Control", "BrewCo", "BrewCo Ltd", "79.00"));
+        createProduct(productJson(prefixOnly, word + "s Travel Set", "BrewCo", "BrewCo Ltd", "69.00"));
+
+        List<String> fallback = RestAssured.given()
+                .queryParam("prefix", word)
+                .when()
+                .get(API_PRODUCT+PRODUCTS_SUGGEST)
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath()
+                .getList("productId", String.class);
+        assertEquals(Set.of(exactShort, exactLong, prefixOnly), Set.copyOf(fallback));
+
+        ProductTypeaheadIndex index = new ProductTypeaheadIndex(mongoTemplate, new SimpleMeterRegistry(), true);
+        ReflectionTestUtils.setField(index, "maxProducts", 2_000_000);
+        ReflectionTestUtils.setField(index, "maxPostingsPerToken", 256);
+        ReflectionTestUtils.setField(index, "maxScanTokens", 512);
+        index.build();
+        awaitTrue(index::isReady);
+
+        assertEquals(List.of(exactShort, exactLong, prefixOnly),               // exact word, then by title length
+                index.suggest(word, 10).stream().map(Product::getProductId).toList());
+        assertEquals(List.of(exactShort, prefixOnly, exactLong),               // all partial: by title length
+                index.suggest(word.substring(0, word.length() - 2), 10).stream().map(Product::getProductId).toList());
+        assertEquals(List.of(exactLong),
+                index.suggest("electric " + word, 10).stream().map(Product::getProductId).toList());
+    }
+
+    @Test
+    void shouldRoundTripProductsAsCborAndSmile() {
+        Map<String, ObjectMapper> formats = Map.of(
+                "application/cbor", CBORMapper.builder().build(),
+                "application/x-jackson-smile", SmileMapper.builder().build());
+        formats.forEach((mediaType, mapper) -> {
+            String productId = uniqueId("B0BIN");
+            Map<String, Object> requestBody = Map.of(
+                    "productId", productId,
+                    "title", "Noise Cancelling Earbuds",
+                    "brand", "SoundMax",
+                    "manufacturer", "SoundMax Electronics Pvt Ltd",
+                    "price", new BigDecimal("149.99"));
+
+            byte[] created = RestAssured.given()
+                    .config(RestAssured.config().encoderConfig(EncoderConfig.encoderConfig()
+                            .appendDefaultContentCharsetToContentTypeIfUndefined(false)))
+                    .contentType(mediaType)
+                    .accept(mediaType)
+                    .body(mapper.writeValueAsBytes(requestBody))
+                    .when()
+                    .post(API_PRODUCT+API_CREATE_PRODUCT)
+                    .then()
+                    .statusCode(201)
+                    .contentType(Matchers.startsWith(mediaType))
+                    .extract()
+                    .asByteArray();
+            assertProduct(mapper.readTree(created), productId);
+
+            byte[] retrieved = RestAssured.given()
+                    .accept(mediaType)
+                    .queryParam("productId", productId)
+                    .when()
+                    .get(API_PRODUCT+PRODUCTS_BY_ID)
+                    .then()
+                    .statusCode(200)
+                    .contentType(Matchers.startsWith(mediaType))
+                    .extract()
+                    .asByteArray();
+            assertProduct(mapper.readTree(retrieved), productId);
+        });
+    }
+
+    private static void assertProduct(JsonNode product, String productId) {
+        assertEquals(productId, product.get("productId").asString());
+        assertEquals("Noise Cancelling Earbuds", product.get("title").asString());
+        assertEquals(0, new BigDecimal("149.99").compareTo(product.get("price").decimalValue()));
+    }
+
+    @Test
+    void shouldGzipListingToTheSameBytes() throws IOException {
+        for (int i = 0; i < 20; i++) {                                  // well above the 2KB minimum
+            createProduct(productJson(uniqueId("B0GZIP"), "Portable Speaker " + i, "SoundMax", "SoundMax Electronics Pvt Ltd", "59.99"));
+        }
+        RestAssuredConfig raw = RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+
+        byte[] identity = RestAssured.given()
+                .config(raw)
+                .accept("application/json")
+                .header("Accept-Encoding", "identity")
+                .when()
+                .get(API_PRODUCT+PRODUCTS)
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.nullValue())
+                .extract()
+                .asByteArray();
+
+        byte[] gzipped = RestAssured.given()
+                .config(raw)
+                .accept("application/json")
+                .header("Accept-Encoding", "gzip")
+                .when()
+                .get(API_PRODUCT+PRODUCTS)
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .extract()
+                .asByteArray();
+
+        try (GZIPInputStream inflater = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertArrayEquals(identity, inflater.readAllBytes());
+        }
+    }
+
+    @Test
+    void shouldWritePooledArrayByteEqualToJsonEncoder() {
+        List<ProductResponseDto> products = IntStream.range(0, 2_000)          // spans many ~32KB buffers
+                .mapToObj(i -> ProductResponseDto.builder()
+                        .productId("B0POOL" + i)
+                        .title("Über \"Quoted\" Speaker " + i)
+                        .brand("SoundMax")
+                        .manufacturer("SoundMax Electronics Pvt Ltd")
+                        .price(new BigDecimal("59.99").add(BigDecimal.valueOf(i)))
+                        .build())
+                .toList();
+
+        assertArrayEquals(jsonMapper.writeValueAsBytes(products), writePooled(products));
+        assertArrayEquals(jsonMapper.writeValueAsBytes(List.of()), writePooled(List.of()));
+    }
+
+    private byte[] writePooled(List<ProductResponseDto> products) {
+        return DataBufferUtils.join(pooledArrayWriter.writeArray(Flux.fromIterable(products), ProductResponseDto.class,
+                        MediaType.APPLICATION_JSON, DefaultDataBufferFactory.sharedInstance))
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .block();
+    }
+
 }
@@ -0,0 +1,111 @@
+package com.brajesh.catalog.domain.product;
+
+import io.restassured.RestAssured;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.awaitIndexes;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.createProduct;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.productJson;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.uniqueId;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.API_INGEST_BULK_PRODUCT;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.API_PRODUCT;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.PRODUCTS_BY_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"product.admission.enabled=false", "product.changes.safety-lag=0s"})
+class ProductBulkIngestTests {
+
+    @LocalServerPort
+    private Integer port;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setup() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+        awaitIndexes(mongoTemplate);
+    }
+
+    @Test
+    void shouldReportStatusPerItemOnInsert() {
+        String existing = uniqueId("B0BULK");
+        String fresh = uniqueId("B0BULK");
+        createProduct(productJson(existing, "Existing Lamp", "LightCo", "LightCo Ltd", "19.99"));
+
+        Map<Integer, String> statuses = ingest("INSERT", List.of(
+                productJson(fresh, "Desk Lamp", "LightCo", "LightCo Ltd", "24.99"),
+                productJson("", "No Id Lamp", "LightCo", "LightCo Ltd", "9.99"),
+                productJson(fresh, "Desk Lamp Again", "LightCo", "LightCo Ltd", "24.99"),
+                productJson(existing, "Existing Lamp", "LightCo", "LightCo Ltd", "19.99")));
+
+        assertEquals(Map.of(0, "CREATED", 1, "INVALID", 2, "DUPLICATE", 3, "DUPLICATE"), statuses);
+    }
+
+    @Test
+    void shouldReportStatusPerItemOnUpsert() {
+        String same = uniqueId("B0BULK");
+        String changed = uniqueId("B0BULK");
+        String fresh = uniqueId("B0BULK");
+        createProduct(productJson(same, "Floor Lamp", "LightCo", "LightCo Ltd", "49.99"));
+        createProduct(productJson(changed, "Wall Lamp", "LightCo", "LightCo Ltd", "29.99"));
+
+        Map<Integer, String> statuses = ingest("UPSERT", List.of(
+                productJson(same, "Floor Lamp", "LightCo", "LightCo Ltd", "49.99"),
+                productJson(changed, "Wall Lamp", "LightCo", "LightCo Ltd", "27.99"),
+                productJson(fresh, "Reading Lamp", "LightCo", "LightCo Ltd", "14.99"),
+                productJson(fresh, "Reading Lamp v2", "LightCo", "LightCo Ltd", "15.99")));
+
+        assertEquals(Map.of(0, "UNCHANGED", 1, "UPDATED", 2, "DUPLICATE", 3, "CREATED"), statuses);
+        RestAssured.given()
+                .queryParam("productId", changed)
+                .when()
+                .get(API_PRODUCT + PRODUCTS_BY_ID)
+                .then()
+                .statusCode(200)
+                .body("price", Matchers.equalTo(27.99F));
+        RestAssured.given()
+                .queryParam("productId", fresh)
+                .when()
+                .get(API_PRODUCT + PRODUCTS_BY_ID)
+                .then()
+                .statusCode(200)
+                .body("title", Matchers.equalTo("Reading Lamp v2"));
+    }
+
+    /**
+     * @return status by position in the request body; results arrive in completion order
+     */
+    private static Map<Integer, String> ingest(String mode, List<String> products) {
+        List<Map<String, Object>> results = RestAssured.given()
+                .contentType("application/json")
+                .queryParam("mode", mode)
+                .body("[" + String.join(",", products) + "]")
+                .when()
+                .post(API_PRODUCT + API_INGEST_BULK_PRODUCT)
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath()
+                .getList("$");
+
+        Map<Integer, String> statuses = new TreeMap<>();
+        results.forEach(result -> statuses.put(((Number) result.get("index")).intValue(), (String) result.get("status")));
+        assertEquals(products.size(), statuses.size());
+        return statuses;
+    }
+}
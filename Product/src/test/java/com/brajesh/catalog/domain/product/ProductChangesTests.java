@@ -0,0 +1,203 @@
+package com.brajesh.catalog.domain.product;
+
+import com.brajesh.catalog.domain.product.config.ProductIndexInitializer;
+import com.brajesh.catalog.domain.product.exception.ProductException;
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import com.brajesh.catalog.domain.product.model.sync.SyncPosition;
+import com.brajesh.catalog.domain.product.utils.SyncTokenUtils;
+import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.awaitIndexes;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.awaitTrue;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.createProduct;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.productJson;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.uniqueId;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.API_INGEST_BULK_PRODUCT;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.API_PRODUCT;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.PRODUCTS_CHANGES;
+import static com.brajesh.catalog.domain.product.utils.QueryUtils.findByProductID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The safety lag is off so changes are visible right away. Each test starts the feed at its own
+ * start time, so only the products it writes are returned.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"product.admission.enabled=false", "product.changes.safety-lag=0s"})
+class ProductChangesTests {
+
+    @LocalServerPort
+    private Integer port;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private ProductIndexInitializer indexInitializer;
+
+    @BeforeEach
+    void setup() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+        awaitIndexes(mongoTemplate);
+    }
+
+    @Test
+    void shouldRoundTripSyncToken() {
+        Product product = Product.builder()
+                .Id(new ObjectId().toHexString())
+                .lastModified(Instant.now().truncatedTo(ChronoUnit.MILLIS))
+                .build();
+
+        SyncPosition position = SyncTokenUtils.decode(SyncTokenUtils.encode(product));
+
+        assertEquals(new SyncPosition(product.getLastModified(), product.getId()), position);
+        assertNull(SyncTokenUtils.decode(""));
+        assertThrows(ProductException.class, () -> SyncTokenUtils.decode("not-a-token"));
+    }
+
+    @Test
+    void shouldPageThroughChangesAndResumeFromSyncToken() {
+        String since = startOfFeed();
+        String first = uniqueId("B0SYNC");
+        String second = uniqueId("B0SYNC");
+        String third = uniqueId("B0SYNC");
+        createProduct(productJson(first, "Travel Mug", "MugCo", "MugCo Ltd", "12.00"));
+        createProduct(productJson(second, "Coffee Cup", "MugCo", "MugCo Ltd", "8.00"));
+        createProduct(productJson(third, "Tea Cup", "MugCo", "MugCo Ltd", "7.00"));
+
+        JsonPath page = changes(since, 2);
+        assertEquals(List.of(first, second), page.getList("items.productId", String.class));
+        assertTrue(page.getBoolean("hasMore"));
+
+        page = changes(page.getString("syncToken"), 2);
+        assertEquals(List.of(third), page.getList("items.productId", String.class));
+        assertFalse(page.getBoolean("hasMore"));
+
+        String caughtUp = page.getString("syncToken");
+        page = changes(caughtUp, 2);
+        assertTrue(page.getList("items").isEmpty());
+        assertEquals(caughtUp, page.getString("syncToken"));          // nothing new: same token back
+
+        RestAssured.given()
+                .contentType("application/json")
+                .queryParam("mode", "UPSERT")
+                .body("[" + productJson(first, "Travel Mug", "MugCo", "MugCo Ltd", "11.00") + "]")
+                .when()
+                .post(API_PRODUCT + API_INGEST_BULK_PRODUCT)
+                .then()
+                .statusCode(200)
+                .body("status", Matchers.contains("UPDATED"));
+
+        page = changes(caughtUp, 2);
+        assertEquals(List.of(first), page.getList("items.productId", String.class));
+        assertEquals(11.0, page.getDouble("items[0].price"));
+    }
+
+    @Test
+    void shouldStreamChangesWithResumableTokens() {
+        String since = startOfFeed();
+        String first = uniqueId("B0SYNC");
+        String second = uniqueId("B0SYNC");
+        createProduct(productJson(first, "Water Bottle", "MugCo", "MugCo Ltd", "15.00"));
+        createProduct(productJson(second, "Flask", "MugCo", "MugCo Ltd", "25.00"));
+
+        List<JsonPath> lines = streamChanges(since);
+        assertEquals(List.of(first, second), lines.stream().map(line -> line.getString("product.productId")).toList());
+
+        List<JsonPath> resumed = streamChanges(lines.getFirst().getString("syncToken"));
+        assertEquals(List.of(second), resumed.stream().map(line -> line.getString("product.productId")).toList());
+    }
+
+    @Test
+    void shouldIncludeLegacyProductsOnceMigrated() {
+        Instant insertedAt = Instant.parse("2001-02-03T04:05:06Z").plusSeconds(new Random().nextInt(1_000_000));
+        ObjectId id = new ObjectId(Date.from(insertedAt));
+        String productId = uniqueId("B0SYNC");
+        Document legacy = new Document("_id", id)                  // written before lastModified existed
+                .append("productId", productId)
+                .append("title", "Legacy Teapot")
+                .append("price", new Decimal128(new BigDecimal("18.00")));
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Product.class))
+                .flatMap(products -> Mono.from(products.insertOne(legacy)))
+                .block();
+
+        indexInitializer.createIndexes();
+        awaitTrue(() -> mongoTemplate.findOne(findByProductID(productId), Product.class)
+                .map(product -> product.getLastModified() != null)
+                .blockOptional()
+                .orElse(false));
+
+        String since = SyncTokenUtils.encode(Product.builder()
+                .Id(new ObjectId(new byte[12]).toHexString())
+                .lastModified(insertedAt.minusMillis(1))
+                .build());
+        JsonPath page = changes(since, 1);
+        assertEquals(List.of(productId), page.getList("items.productId", String.class));
+        assertEquals(insertedAt, SyncTokenUtils.decode(page.getString("syncToken")).getLastModified());
+    }
+
+    /**
+     * A token just before now: the feed only returns what is written from here on.
+     */
+    private static String startOfFeed() {
+        return SyncTokenUtils.encode(Product.builder()
+                .Id(new ObjectId(new byte[12]).toHexString())
+                .lastModified(Instant.now().truncatedTo(ChronoUnit.MILLIS).minusMillis(1))
+                .build());
+    }
+
+    private static JsonPath changes(String since, int size) {
+        return RestAssured.given()
+                .accept("application/json")
+                .queryParam("since", since)
+                .queryParam("size", size)
+                .when()
+                .get(API_PRODUCT + PRODUCTS_CHANGES)
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath();
+    }
+
+    private static List<JsonPath> streamChanges(String since) {
+        return RestAssured.given()
+                .accept("application/x-ndjson")
+                .queryParam("since", since)
+                .when()
+                .get(API_PRODUCT + PRODUCTS_CHANGES)
+                .then()
+                .statusCode(200)
+                .extract()
+                .asString()
+                .lines()
+                .filter(line -> !line.isBlank())
+                .map(JsonPath::from)
+                .toList();
+    }
+}
@@ -0,0 +1,146 @@
+package com.brajesh.catalog.domain.product;
+
+import io.restassured.RestAssured;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.awaitIndexes;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.createProduct;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.productJson;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.uniqueId;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.API_PRODUCT;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.PRODUCTS;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.PRODUCTS_BY_ID;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"product.admission.enabled=false", "product.changes.safety-lag=0s"})
+class ProductConditionalGetTests {
+
+    @LocalServerPort
+    private Integer port;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setup() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+        awaitIndexes(mongoTemplate);
+    }
+
+    @Test
+    void shouldAnswerIfNoneMatchWithNotModified() {
+        String productId = uniqueId("B0COND");
+        createProduct(productJson(productId, "Smart Watch", "TimeTech", "TimeTech Ltd", "149.00"));
+
+        String etag = RestAssured.given()
+                .queryParam("productId", productId)
+                .when()
+                .get(API_PRODUCT + PRODUCTS_BY_ID)
+                .then()
+                .statusCode(200)
+                .header("ETag", Matchers.notNullValue())
+                .header("Last-Modified", Matchers.notNullValue())
+                .extract()
+                .header("ETag");
+
+        RestAssured.given()
+                .queryParam("productId", productId)
+                .header("If-None-Match", etag)
+                .when()
+                .get(API_PRODUCT + PRODUCTS_BY_ID)
+                .then()
+                .statusCode(304)
+                .header("ETag", etag)
+                .body(Matchers.emptyString());
+
+        RestAssured.given()
+                .queryParam("productId", productId)
+                .header("If-None-Match", "\"stale\"")
+                .when()
+                .get(API_PRODUCT + PRODUCTS_BY_ID)
+                .then()
+                .statusCode(200)
+                .body("title", Matchers.equalTo("Smart Watch"));
+    }
+
+    @Test
+    void shouldAnswerIfModifiedSinceWithNotModified() {
+        String productId = uniqueId("B0COND");
+        createProduct(productJson(productId, "Fitness Band", "TimeTech", "TimeTech Ltd", "49.00"));
+
+        String lastModified = RestAssured.given()
+                .queryParam("productId", productId)
+                .when()
+                .get(API_PRODUCT + PRODUCTS_BY_ID)
+                .then()
+                .statusCode(200)
+                .extract()
+                .header("Last-Modified");
+
+        RestAssured.given()
+                .queryParam("productId", productId)
+                .header("If-Modified-Since", lastModified)
+                .when()
+                .get(API_PRODUCT + PRODUCTS_BY_ID)
+                .then()
+                .statusCode(304);
+
+        String dayBefore = ZonedDateTime.parse(lastModified, DateTimeFormatter.RFC_1123_DATE_TIME)
+                .minusDays(1)
+                .format(DateTimeFormatter.RFC_1123_DATE_TIME);
+        RestAssured.given()
+                .queryParam("productId", productId)
+                .header("If-Modified-Since", dayBefore)
+                .when()
+                .get(API_PRODUCT + PRODUCTS_BY_ID)
+                .then()
+                .statusCode(200)
+                .body("title", Matchers.equalTo("Fitness Band"));
+    }
+
+    @Test
+    void shouldRevalidateListingUntilCatalogChanges() {
+        createProduct(productJson(uniqueId("B0COND"), "Alarm Clock", "TimeTech", "TimeTech Ltd", "19.00"));
+
+        String etag = RestAssured.given()
+                .accept("application/json")
+                .when()
+                .get(API_PRODUCT + PRODUCTS)
+                .then()
+                .statusCode(200)
+                .header("ETag", Matchers.notNullValue())
+                .extract()
+                .header("ETag");
+
+        RestAssured.given()
+                .accept("application/json")
+                .header("If-None-Match", etag)
+                .when()
+                .get(API_PRODUCT + PRODUCTS)
+                .then()
+                .statusCode(304);
+
+        createProduct(productJson(uniqueId("B0COND"), "Wall Clock", "TimeTech", "TimeTech Ltd", "29.00"));
+
+        RestAssured.given()
+                .accept("application/json")
+                .header("If-None-Match", etag)
+                .when()
+                .get(API_PRODUCT + PRODUCTS)
+                .then()
+                .statusCode(200)
+                .header("ETag", Matchers.not(etag));
+    }
+}
@@ -0,0 +1,143 @@
+package com.brajesh.catalog.domain.product;
+
+import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.awaitIndexes;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.uniqueId;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.API_IMPORT_PRODUCT;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.API_PRODUCT;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.PRODUCTS_BY_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The inflated-size cap is lowered so a small gzip bomb is enough to hit it.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"product.admission.enabled=false", "product.gzip.max-inflated-size=1MB"})
+class ProductImportTests {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    @LocalServerPort
+    private Integer port;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setup() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+        awaitIndexes(mongoTemplate);
+    }
+
+    @Test
+    void shouldImportNdjsonFeed() {
+        String productId = uniqueId("B0IMPORT");
+
+        JsonPath summary = importFeed(feed(productId).getBytes(StandardCharsets.UTF_8), false);
+
+        assertEquals(4, summary.getLong("processed"));
+        assertEquals(3, summary.getLong("created"));
+        assertEquals(1, summary.getLong("invalid"));
+        RestAssured.given()
+                .queryParam("productId", productId + "2")
+                .when()
+                .get(API_PRODUCT + PRODUCTS_BY_ID)
+                .then()
+                .statusCode(200)
+                .body("title", Matchers.equalTo("Imported Kettle 2"));
+    }
+
+    @Test
+    void shouldImportGzipNdjsonFeed() {
+        String productId = uniqueId("B0IMPORT");
+
+        JsonPath summary = importFeed(gzip(feed(productId).getBytes(StandardCharsets.UTF_8)), true);
+
+        assertEquals(4, summary.getLong("processed"));
+        assertEquals(3, summary.getLong("created"));
+        assertEquals(1, summary.getLong("invalid"));
+    }
+
+    @Test
+    void shouldRejectBodyInflatingPastCap() {
+        byte[] bomb = gzip("\n".repeat(4 * 1024 * 1024).getBytes(StandardCharsets.UTF_8));
+
+        RestAssured.given()
+                .contentType(NDJSON)
+                .accept(NDJSON)
+                .header("Content-Encoding", "gzip")
+                .body(bomb)
+                .when()
+                .post(API_PRODUCT + API_IMPORT_PRODUCT)
+                .then()
+                .statusCode(413)
+                .body("code", Matchers.equalTo("SB_PL_PAYLOAD_TOO_LARGE"));
+    }
+
+    /**
+     * @return the final summary line, after checking it is the only completed one
+     */
+    private static JsonPath importFeed(byte[] body, boolean gzip) {
+        var request = RestAssured.given()
+                .contentType(NDJSON)
+                .accept(NDJSON)
+                .body(body);
+        if (gzip) {
+            request.header("Content-Encoding", "gzip");
+        }
+        String response = request.when()
+                .post(API_PRODUCT + API_IMPORT_PRODUCT)
+                .then()
+                .statusCode(200)
+                .extract()
+                .asString();
+
+        List<JsonPath> lines = response.lines()
+                .filter(line -> !line.isBlank())
+                .map(JsonPath::from)
+                .toList();
+        JsonPath summary = lines.getLast();
+        assertTrue(summary.getBoolean("completed"));
+        assertEquals(1, lines.stream().filter(line -> line.getBoolean("completed")).count());
+        return summary;
+    }
+
+    private static String feed(String productId) {
+        return """
+                {"productId":"%1$s1","title":"Imported Kettle 1","brand":"BoilCo","manufacturer":"BoilCo Ltd","price":21.50}
+                {"productId":"%1$s2","title":"Imported Kettle 2","brand":"BoilCo","manufacturer":"BoilCo Ltd","price":22.50}
+                {"title":"Kettle without id","brand":"BoilCo","manufacturer":"BoilCo Ltd","price":23.50}
+                {"productId":"%1$s3","title":"Imported Kettle 3","brand":"BoilCo","manufacturer":"BoilCo Ltd","price":24.50}
+                """.formatted(productId);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
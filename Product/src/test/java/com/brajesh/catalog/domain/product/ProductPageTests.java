@@ -0,0 +1,122 @@
+package com.brajesh.catalog.domain.product;
+
+import com.brajesh.catalog.domain.product.exception.ProductException;
+import com.brajesh.catalog.domain.product.utils.PageTokenUtils;
+import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
+import org.bson.types.ObjectId;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.awaitIndexes;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.createProduct;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.productJson;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.uniqueId;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.API_PRODUCT;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.PRODUCTS_PAGE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"product.admission.enabled=false", "product.changes.safety-lag=0s"})
+class ProductPageTests {
+
+    @LocalServerPort
+    private Integer port;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setup() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+        awaitIndexes(mongoTemplate);
+    }
+
+    @Test
+    void shouldRoundTripPageToken() {
+        String id = new ObjectId().toHexString();
+
+        assertEquals(id, PageTokenUtils.decode(PageTokenUtils.encode(id)));
+        assertNull(PageTokenUtils.decode(null));
+        assertThrows(ProductException.class, () -> PageTokenUtils.decode("not-a-token"));
+    }
+
+    @Test
+    void shouldVisitEveryProductOnceAcrossPages() {
+        String pageToken = PageTokenUtils.encode(new ObjectId().toHexString());    // ids are ascending, start before ours
+        List<String> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String productId = uniqueId("B0PAGE");
+            createProduct(productJson(productId, "Paged Product " + i, "PageBrand", "PageBrand Ltd", "10.00"));
+            created.add(productId);
+        }
+
+        List<String> visited = new ArrayList<>();
+        do {
+            JsonPath page = RestAssured.given()
+                    .queryParam("size", 2)
+                    .queryParam("pageToken", pageToken)
+                    .when()
+                    .get(API_PRODUCT + PRODUCTS_PAGE)
+                    .then()
+                    .statusCode(200)
+                    .body("size", Matchers.lessThanOrEqualTo(2))
+                    .extract()
+                    .jsonPath();
+            visited.addAll(page.getList("items.productId", String.class));
+            pageToken = page.getString("nextPageToken");
+        } while (pageToken != null);
+
+        assertEquals(created, visited);
+    }
+
+    @Test
+    void shouldProjectRequestedFieldsOnly() {
+        String pageToken = PageTokenUtils.encode(new ObjectId().toHexString());
+        String productId = uniqueId("B0PAGE");
+        createProduct(productJson(productId, "Projected Product", "PageBrand", "PageBrand Ltd", "10.00"));
+
+        List<Object> brands = RestAssured.given()
+                .queryParam("pageToken", pageToken)
+                .queryParam("fields", "productId", "title")
+                .when()
+                .get(API_PRODUCT + PRODUCTS_PAGE)
+                .then()
+                .statusCode(200)
+                .body("items.productId", Matchers.contains(productId))
+                .body("items.title", Matchers.contains("Projected Product"))
+                .extract()
+                .jsonPath()
+                .getList("items.brand");
+        assertTrue(brands.stream().allMatch(Objects::isNull));
+    }
+
+    @Test
+    void shouldRejectMalformedPageTokenWithErrorBody() {
+        RestAssured.given()
+                .queryParam("pageToken", "not-a-token")
+                .when()
+                .get(API_PRODUCT + PRODUCTS_PAGE)
+                .then()
+                .statusCode(400)
+                .body("code", Matchers.equalTo("SB_PL_INVALID_INPUT_DATA"))
+                .body("message", Matchers.equalTo("Invalid input data."))
+                .body("status", Matchers.equalTo(400))
+                .body("timestamp", Matchers.notNullValue());
+    }
+}
@@ -0,0 +1,91 @@
+package com.brajesh.catalog.domain.product;
+
+import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.awaitIndexes;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.createProduct;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.productJson;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.uniqueId;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.API_PRODUCT;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.PRODUCTS_PRICE_HISTOGRAM;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.PRODUCTS_STATS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"product.admission.enabled=false", "product.changes.safety-lag=0s"})
+class ProductReportTests {
+
+    @LocalServerPort
+    private Integer port;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setup() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+        awaitIndexes(mongoTemplate);
+    }
+
+    @Test
+    void shouldReportStatsPerBrand() {
+        String brand = uniqueId("Brand");
+        createProduct(productJson(uniqueId("B0REPORT"), "Budget Mouse", brand, "Peripherals Inc", "10.00"));
+        createProduct(productJson(uniqueId("B0REPORT"), "Gaming Mouse", brand, "Peripherals Inc", "30.00"));
+        createProduct(productJson(uniqueId("B0REPORT"), "Mouse Pad", brand, "Peripherals Inc", "null"));
+
+        JsonPath stats = RestAssured.given()
+                .queryParam("groupBy", "BRAND")
+                .when()
+                .get(API_PRODUCT + PRODUCTS_STATS)
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath();
+        String group = "find { it.value == '" + brand + "' }";
+
+        assertEquals(3, stats.getLong(group + ".count"));
+        assertEquals(2, stats.getLong(group + ".pricedCount"));
+        assertEquals(10.0, stats.getDouble(group + ".minPrice"));
+        assertEquals(30.0, stats.getDouble(group + ".maxPrice"));
+        assertEquals(20.0, stats.getDouble(group + ".avgPrice"));
+    }
+
+    @Test
+    void shouldBucketPricesOverBoundaries() {
+        String brand = uniqueId("Brand");
+        createProduct(productJson(uniqueId("B0REPORT"), "USB Cable", brand, "Cables Ltd", "10.00"));
+        createProduct(productJson(uniqueId("B0REPORT"), "HDMI Cable", brand, "Cables Ltd", "30.00"));
+        createProduct(productJson(uniqueId("B0REPORT"), "Optical Cable", brand, "Cables Ltd", "40.00"));
+        createProduct(productJson(uniqueId("B0REPORT"), "Cable Tester", brand, "Cables Ltd", "150.00"));
+
+        JsonPath buckets = RestAssured.given()
+                .queryParam("boundaries", "0,20,50,100")
+                .queryParam("brand", brand)
+                .when()
+                .get(API_PRODUCT + PRODUCTS_PRICE_HISTOGRAM)
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath();
+
+        assertEquals(3, buckets.getList("$").size());                  // empty buckets are not returned
+        assertEquals(1, buckets.getLong("find { it.lowerBound == 0 }.count"));
+        assertEquals(20.0, buckets.getDouble("find { it.lowerBound == 0 }.upperBound"));
+        assertEquals(2, buckets.getLong("find { it.lowerBound == 20 }.count"));
+        assertEquals(35.0, buckets.getDouble("find { it.lowerBound == 20 }.avgPrice"));
+        assertEquals(1, buckets.getLong("find { it.lowerBound == null }.count"));
+        assertNull(buckets.get("find { it.lowerBound == null }.upperBound"));
+    }
+}
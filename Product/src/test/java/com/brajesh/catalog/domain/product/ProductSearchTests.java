@@ -0,0 +1,139 @@
+package com.brajesh.catalog.domain.product;
+
+import com.brajesh.catalog.domain.product.config.ProductIndexInitializer;
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import io.restassured.RestAssured;
+import org.bson.Document;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.awaitIndexes;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.awaitTrue;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.createProduct;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.productJson;
+import static com.brajesh.catalog.domain.product.ProductApiTestSupport.uniqueId;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.API_PRODUCT;
+import static com.brajesh.catalog.domain.product.constant.UriConstants.PRODUCTS_SEARCH;
+import static com.brajesh.catalog.domain.product.utils.QueryUtils.findByProductID;
+
+/**
+ * Each test searches for a brand word of its own, so only its products can match.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"product.admission.enabled=false", "product.changes.safety-lag=0s"})
+class ProductSearchTests {
+
+    @LocalServerPort
+    private Integer port;
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private ProductIndexInitializer indexInitializer;
+
+    @BeforeEach
+    void setup() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+        awaitIndexes(mongoTemplate);
+    }
+
+    @Test
+    void shouldFindByTextWithPriceRangeAndFacets() {
+        String brand = uniqueId("Brand");
+        createProduct(productJson(uniqueId("B0SRCH"), "Noise Cancelling Headphones", brand, "Audio Works", "199.00"));
+        createProduct(productJson(uniqueId("B0SRCH"), "Wired Earphones", brand, "Audio Works", "19.00"));
+        createProduct(productJson(uniqueId("B0SRCH"), "Portable Speaker", brand, "Sound Labs", "59.00"));
+
+        RestAssured.given()
+                .queryParam("q", brand)
+                .when()
+                .get(API_PRODUCT + PRODUCTS_SEARCH)
+                .then()
+                .statusCode(200)
+                .body("total", Matchers.equalTo(3))
+                .body("items", Matchers.hasSize(3))
+                .body("brands.value", Matchers.contains(brand))
+                .body("brands.count", Matchers.contains(3))
+                .body("manufacturers.find { it.value == 'Audio Works' }.count", Matchers.equalTo(2))
+                .body("manufacturers.find { it.value == 'Sound Labs' }.count", Matchers.equalTo(1));
+
+        RestAssured.given()
+                .queryParam("q", brand)
+                .queryParam("minPrice", "20")
+                .queryParam("maxPrice", "100")
+                .queryParam("facets", false)
+                .when()
+                .get(API_PRODUCT + PRODUCTS_SEARCH)
+                .then()
+                .statusCode(200)
+                .body("total", Matchers.equalTo(1))
+                .body("items.title", Matchers.contains("Portable Speaker"))
+                .body("brands", Matchers.empty());
+    }
+
+    @Test
+    void shouldCompletePartialLastWord() {
+        String brand = uniqueId("Brand");
+        createProduct(productJson(uniqueId("B0SRCH"), "Stainless Steel Kettle", brand, "Kitchen Co", "35.00"));
+        createProduct(productJson(uniqueId("B0SRCH"), "Stainless Cookware Set", brand, "Kitchen Co", "89.00"));
+
+        RestAssured.given()
+                .queryParam("prefix", brand + " stainless ste")
+                .when()
+                .get(API_PRODUCT + PRODUCTS_SEARCH)
+                .then()
+                .statusCode(200)
+                .body("total", Matchers.equalTo(1))
+                .body("items.title", Matchers.contains("Stainless Steel Kettle"));
+
+        RestAssured.given()
+                .queryParam("prefix", brand.substring(0, brand.length() - 2))
+                .queryParam("brand", brand)
+                .when()
+                .get(API_PRODUCT + PRODUCTS_SEARCH)
+                .then()
+                .statusCode(200)
+                .body("total", Matchers.equalTo(2));
+    }
+
+    @Test
+    void shouldFindLegacyProductsOnceMigrated() {
+        String brand = uniqueId("Brand");
+        Document legacy = new Document("productId", uniqueId("B0SRCH"))
+                .append("title", "Legacy Toaster")
+                .append("brand", brand)
+                .append("manufacturer", "Old Appliances")
+                .append("price", "42.50");                          // written before prices were Decimal128
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Product.class))
+                .flatMap(products -> Mono.from(products.insertOne(legacy)))
+                .block();
+
+        indexInitializer.createIndexes();
+        awaitTrue(() -> mongoTemplate.findOne(findByProductID(legacy.getString("productId")), Product.class)
+                .map(product -> product.getSearchTokens() != null)
+                .blockOptional()
+                .orElse(false));
+
+        RestAssured.given()
+                .queryParam("prefix", brand)
+                .queryParam("minPrice", "40")
+                .queryParam("maxPrice", "45")
+                .when()
+                .get(API_PRODUCT + PRODUCTS_SEARCH)
+                .then()
+                .statusCode(200)
+                .body("total", Matchers.equalTo(1))
+                .body("items.title", Matchers.contains("Legacy Toaster"))
+                .body("items.price", Matchers.contains(42.5F));
+    }
+}
@@ -0,0 +1,52 @@
+package com.brajesh.catalog.domain.product.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ErrorResponseBodiesTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final ErrorResponseBodies bodies = new ErrorResponseBodies(jsonMapper);
+
+    @Test
+    void shouldRenderEveryCodeWithCurrentTimestamp() {
+        for (ProductDetailsException code : ProductDetailsException.values()) {
+            JsonNode body = read(bodies.render(code, DefaultDataBufferFactory.sharedInstance));
+
+            assertEquals(code.getKey(), body.get("code").asString());
+            assertEquals(code.getLabel(), body.get("message").asString());
+            assertEquals(code.getType().name(), body.get("type").asString());
+            assertEquals(code.getStatus(), body.get("status").asInt());
+            assertRecent(body);
+        }
+    }
+
+    @Test
+    void shouldRenderInternalError() {
+        JsonNode body = read(bodies.renderInternalError(DefaultDataBufferFactory.sharedInstance));
+
+        assertEquals(ErrorResponseBodies.INTERNAL_ERROR, body.get("code").asString());
+        assertEquals(ErrorResponseBodies.INTERNAL_ERROR_MESSAGE, body.get("message").asString());
+        assertEquals(500, body.get("status").asInt());
+        assertRecent(body);
+    }
+
+    private JsonNode read(DataBuffer buffer) {
+        return jsonMapper.readTree(buffer.toString(StandardCharsets.UTF_8));
+    }
+
+    private static void assertRecent(JsonNode body) {
+        Instant timestamp = Instant.parse(body.get("timestamp").asString());
+        assertTrue(Duration.between(timestamp, Instant.now()).abs().toSeconds() < 5, "timestamp " + timestamp);
+    }
+}
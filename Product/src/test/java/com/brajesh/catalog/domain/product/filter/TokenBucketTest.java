@@ -0,0 +1,50 @@
+package com.brajesh.catalog.domain.product.filter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void shouldAllowBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(bucket.tryConsume(1, 0));
+        }
+        assertFalse(bucket.tryConsume(1, 0));
+    }
+
+    @Test
+    void shouldRefillAtRate() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+        assertTrue(bucket.tryConsume(10, 0));
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(bucket.tryConsume(1, SECOND));
+        }
+        assertFalse(bucket.tryConsume(1, SECOND));
+    }
+
+    @Test
+    void shouldNotRefillBeyondCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+        assertTrue(bucket.tryConsume(10, 0));
+
+        assertTrue(bucket.tryConsume(10, 100 * SECOND));
+        assertFalse(bucket.tryConsume(1, 100 * SECOND));
+    }
+
+    @Test
+    void shouldChargeHeavyCost() {
+        TokenBucket bucket = new TokenBucket(30, 5, 0);
+
+        assertTrue(bucket.tryConsume(20, 0));
+        assertFalse(bucket.tryConsume(20, 0));
+        assertTrue(bucket.tryConsume(10, 0));
+    }
+}
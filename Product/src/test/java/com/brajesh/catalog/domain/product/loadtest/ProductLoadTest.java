@@ -0,0 +1,158 @@
+package com.brajesh.catalog.domain.product.loadtest;
+
+import com.brajesh.catalog.domain.product.TestcontainersConfiguration;
+import com.brajesh.catalog.domain.product.model.api.requestDto.ProductRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static com.brajesh.catalog.domain.product.constant.UriConstants.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load-test harness: seeds {@code load.products} products through the bulk endpoint, then
+ * drives create, get-by-id and list at {@code load.concurrency} in-flight requests and
+ * writes throughput and latency percentiles per operation to {@code load.report} as JSON.
+ * Excluded from {@code test}; run it with {@code ./gradlew loadTest}. Admission control is off unless
+ * {@code -Pload.admission=true}, to measure shedding behaviour instead of raw capacity.
+ */
+@Tag("load")
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "product.admission.enabled=${load.admission:false}")       // one client would hit its own rate limit
+class ProductLoadTest {
+
+    private static final int PRODUCTS = Integer.getInteger("load.products", 10_000);
+    private static final int BULK_SIZE = Integer.getInteger("load.bulk-size", 500);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 20_000);
+    private static final int LIST_REQUESTS = Integer.getInteger("load.list-requests", 20);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+    private static final String REPORT = System.getProperty("load.report", "build/reports/load/load-test-report.json");
+
+    @LocalServerPort
+    private Integer port;
+
+    private WebClient client;
+
+    @BeforeEach
+    void setup() {
+        client = WebClient.builder()
+                .baseUrl("http://localhost:" + port + API_PRODUCT)
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(-1))
+                .build();
+    }
+
+    @Test
+    void driveProductEndpoints() {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        operations.put("bulk", run((PRODUCTS + BULK_SIZE - 1) / BULK_SIZE, this::bulk));
+        operations.put("create", run(REQUESTS, i -> create(PRODUCTS + i)));
+        operations.put("get-by-id", run(REQUESTS, i -> getById(i % PRODUCTS)));
+        operations.put("list", run(LIST_REQUESTS, i -> list()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("runtimeMode", System.getProperty("product.runtime.mode", "reactive"));
+        report.put("products", PRODUCTS);
+        report.put("concurrency", CONCURRENCY);
+        report.put("operations", operations);
+
+        File file = new File(REPORT);
+        file.getParentFile().mkdirs();
+        JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValue(file, report);
+        assertTrue(file.isFile());
+    }
+
+    private Map<String, Object> run(int requests, IntFunction<Mono<?>> call) {
+        long[] latencies = new long[requests];
+        AtomicLong errors = new AtomicLong();
+        long start = System.nanoTime();
+
+        Flux.range(0, requests)
+                .flatMap(i -> {
+                    long sent = System.nanoTime();
+                    return call.apply(i)
+                            .doOnError(e -> errors.incrementAndGet())
+                            .onErrorResume(e -> Mono.empty())
+                            .doFinally(signal -> latencies[i] = System.nanoTime() - sent);
+                }, CONCURRENCY)
+                .blockLast();
+
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", requests);
+        stats.put("errors", errors.get());
+        stats.put("durationMs", elapsed / 1_000_000);
+        stats.put("throughputRps", requests * 1_000_000_000.0 / elapsed);
+        stats.put("p50Ms", percentileMillis(latencies, 0.50));
+        stats.put("p99Ms", percentileMillis(latencies, 0.99));
+        stats.put("p999Ms", percentileMillis(latencies, 0.999));
+        stats.put("maxMs", percentileMillis(latencies, 1.0));
+        return stats;
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(rank, 0)] / 1_000_000.0;
+    }
+
+    private Mono<?> bulk(int batch) {
+        List<ProductRequestDto> products = IntStream.range(batch * BULK_SIZE, Math.min((batch + 1) * BULK_SIZE, PRODUCTS))
+                .mapToObj(ProductLoadTest::product)
+                .toList();
+        return client.post().uri(API_CREATE_BULK_PRODUCT)
+                .bodyValue(products)
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    private Mono<?> create(int i) {
+        return client.post().uri(API_CREATE_PRODUCT)
+                .bodyValue(product(i))
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    private Mono<?> getById(int i) {
+        return client.get().uri(uri -> uri.path(PRODUCTS_BY_ID).queryParam("productId", productId(i)).build())
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    private Mono<?> list() {
+        return client.get().uri(PRODUCTS)
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    private static ProductRequestDto product(int i) {
+        return new ProductRequestDto(productId(i), "Load Test Product " + i, "LoadBrand", "Load Manufacturing Ltd",
+                BigDecimal.valueOf(1000 + i % 10_000, 2));
+    }
+
+    private static String productId(int i) {
+        return "LT%08d".formatted(i);
+    }
+}
@@ -0,0 +1,59 @@
+package com.brajesh.catalog.domain.product.model.snapshot;
+
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ColumnarProductSnapshotTest {
+
+    @Test
+    void shouldRoundTripProductsThroughColumns() {
+        BigDecimal widePrice = new BigDecimal(BigInteger.TEN.pow(30), 2);
+        ColumnarProductSnapshot snapshot = ColumnarProductSnapshot.builder()
+                .add(product("65f0c0ffee00000000000001", "B0C7XQ12AB", "Wireless Bluetooth Headphones", "SoundMax", new BigDecimal("129.99")))
+                .add(product("65f0c0ffee00000000000002", "B0C7XQ12AC", "Wired Headphones", "SoundMax", null))
+                .add(product("65f0c0ffee00000000000003", "B0C7XQ12AD", "Speaker ünïcödé", null, widePrice))
+                .build();
+
+        assertEquals(3, snapshot.size());
+
+        Product first = snapshot.get(snapshot.rowOf("B0C7XQ12AB"));
+        assertEquals("Wireless Bluetooth Headphones", first.getTitle());
+        assertEquals("SoundMax", first.getBrand());
+        assertEquals(new BigDecimal("129.99"), first.getPrice());
+
+        assertNull(snapshot.get(snapshot.rowOf("B0C7XQ12AC")).getPrice());
+
+        Product third = snapshot.get(snapshot.rowOfId("65f0c0ffee00000000000003"));
+        assertEquals("Speaker ünïcödé", third.getTitle());
+        assertNull(third.getBrand());
+        assertEquals(widePrice, third.getPrice());
+    }
+
+    @Test
+    void shouldReturnMinusOneForUnknownKeys() {
+        ColumnarProductSnapshot snapshot = ColumnarProductSnapshot.builder()
+                .add(product("65f0c0ffee00000000000001", "B0C7XQ12AB", "Headphones", "SoundMax", BigDecimal.ONE))
+                .build();
+
+        assertEquals(-1, snapshot.rowOf("UNKNOWN"));
+        assertEquals(-1, snapshot.rowOf(null));
+        assertEquals(-1, ColumnarProductSnapshot.builder().build().rowOf("B0C7XQ12AB"));
+    }
+
+    private static Product product(String id, String productId, String title, String brand, BigDecimal price) {
+        return Product.builder()
+                .Id(id)
+                .productId(productId)
+                .title(title)
+                .brand(brand)
+                .manufacturer(brand == null ? null : brand + " Electronics Pvt Ltd")
+                .price(price)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.brajesh.catalog.domain.product.services;
+
+import com.brajesh.catalog.domain.product.TestcontainersConfiguration;
+import com.brajesh.catalog.domain.product.model.entity.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.brajesh.catalog.domain.product.utils.QueryUtils.findByProductID;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Writes go straight to the collection, as another instance would make them, and must reach
+ * the local snapshot through the change stream. The Testcontainers MongoDB container runs as
+ * a single-node replica set, which is all change streams need.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {"product.snapshot.enabled=true", "product.change-stream.enabled=true"})
+class ProductChangeStreamServiceTests {
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private ProductSnapshotService snapshotService;
+
+    @Test
+    void shouldApplyWritesFromOtherInstances() {
+        awaitTrue(snapshotService::isReady);
+
+        Product product = Product.builder()
+                .productId("B0CHANGE01")
+                .title("Mechanical Keyboard")
+                .brand("KeyWorks")
+                .manufacturer("KeyWorks Ltd")
+                .price(new BigDecimal("89.50"))
+                .build();
+        mongoTemplate.insert(product).block();
+        awaitTrue(() -> snapshotService.find("B0CHANGE01").map(Product::getTitle).equals(Optional.of("Mechanical Keyboard")));
+
+        mongoTemplate.remove(findByProductID("B0CHANGE01"), Product.class).block();
+        awaitTrue(() -> snapshotService.find("B0CHANGE01").isEmpty());
+    }
+
+    private static void awaitTrue(Supplier<Boolean> condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.get()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 10s");
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}